@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.internal.tasks;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the dependency coordinates declared in the features pom as one
+ * {@code groupId:artifactId:version:type} line per dependency, in declaration order,
+ * so they can be loaded at runtime without parsing XML.
+ */
+@CacheableTask
+public abstract class WriteDependencyCoordinatesTask extends DefaultTask {
+
+    public static final String COORDINATES_FILE = "META-INF/grails-forge/dependency-coordinates.txt";
+
+    @InputFile
+    @PathSensitive(PathSensitivity.NONE)
+    public abstract RegularFileProperty getPom();
+
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    @TaskAction
+    public void writeCoordinates() throws IOException {
+        Document document;
+        try {
+            document = DocumentBuilderFactory.newInstance()
+                    .newDocumentBuilder()
+                    .parse(getPom().get().getAsFile());
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new GradleException("Unable to parse " + getPom().get().getAsFile(), e);
+        }
+        document.getDocumentElement().normalize();
+
+        Path output = getOutputDirectory().file(COORDINATES_FILE).get().getAsFile().toPath();
+        Files.createDirectories(output.getParent());
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            NodeList dependencies = document.getElementsByTagName("dependency");
+            for (int i = 0; i < dependencies.getLength(); i++) {
+                NodeList children = dependencies.item(i).getChildNodes();
+                String groupId = null;
+                String artifactId = null;
+                String version = null;
+                String type = null;
+                for (int x = 0; x < children.getLength(); x++) {
+                    Node child = children.item(x);
+                    switch (child.getNodeName()) {
+                        case "groupId":
+                            groupId = valueOfNode(child);
+                            break;
+                        case "artifactId":
+                            artifactId = valueOfNode(child);
+                            break;
+                        case "version":
+                            version = valueOfNode(child);
+                            break;
+                        case "type":
+                            type = valueOfNode(child);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                if (groupId != null && !groupId.isEmpty() && artifactId != null && !artifactId.isEmpty()) {
+                    writer.write(groupId + ":" + artifactId + ":" + (version == null ? "" : version) + ":" +
+                            ("pom".equalsIgnoreCase(type) ? "pom" : "jar") + "\n");
+                }
+            }
+        }
+    }
+
+    private static String valueOfNode(Node node) {
+        NodeList children = node.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child.getNodeName().equals("#text")) {
+                return child.getNodeValue();
+            }
+        }
+        return null;
+    }
+}
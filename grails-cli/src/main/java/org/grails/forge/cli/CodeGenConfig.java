@@ -144,9 +144,7 @@ public class CodeGenConfig {
 
                     AvailableFeatures availableFeatures = beanContext.getBean(AvailableFeatures.class, Qualifiers.byName(codeGenConfig.getApplicationType().getName()));
 
-                    codeGenConfig.setFeatures(availableFeatures.getAllFeatures()
-                            .filter(f -> f instanceof DefaultFeature)
-                            .map(DefaultFeature.class::cast)
+                    codeGenConfig.setFeatures(availableFeatures.getAllFeatures(DefaultFeature.class)
                             .filter(f -> f.shouldApply(
                                     codeGenConfig.getApplicationType(),
                                     new Options(codeGenConfig.getTestFramework(), JdkVersion.DEFAULT_OPTION),
@@ -106,11 +106,14 @@ public abstract class CreateCommand extends BaseCommand implements Callable<Inte
             throw new CommandLine.ParameterException(this.spec.commandLine(), StringUtils.isEmpty(name) ? "Specify an application name or use --inplace to create an application in the current directory" : e.getMessage());
         }
 
-        OutputHandler outputHandler = new FileSystemOutputHandler(project, inplace, this);
+        FileSystemOutputHandler outputHandler = new FileSystemOutputHandler(project, inplace, inplace, this);
 
         generate(project, outputHandler);
 
         out("@|blue ||@ Application created at " + outputHandler.getOutputLocation());
+        if (outputHandler.isIncremental()) {
+            out("@|blue ||@ " + outputHandler.getWrittenCount() + " file(s) written, " + outputHandler.getSkippedCount() + " unchanged file(s) skipped");
+        }
         return 0;
     }
 
@@ -23,6 +23,8 @@ import org.grails.forge.application.generator.GeneratorContext;
 import org.grails.forge.feature.AvailableFeatures;
 import org.grails.forge.feature.Feature;
 import org.grails.forge.feature.FeatureContext;
+import org.grails.forge.feature.FeatureMetadata;
+import org.grails.forge.feature.FeatureMetadataIndex;
 import org.grails.forge.io.ConsoleOutput;
 import org.grails.forge.options.Options;
 
@@ -33,6 +35,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ListFeatures {
 
@@ -63,17 +66,19 @@ public class ListFeatures {
                 );
         GeneratorContext generatorContext = contextFactory.createGeneratorContext(null, featureContext, ConsoleOutput.NOOP);
 
-        Set<Feature> defaultFeatures = generatorContext.getFeatures().getFeatures();
-        List<Feature> allFeatures = availableFeatures.getFeatures().collect(Collectors.toList());
+        Set<String> defaultFeatures = generatorContext.getFeatures().getFeatures().stream()
+                .map(Feature::getName)
+                .collect(Collectors.toSet());
+        List<FeatureMetadata> allFeatures = getFeatures().collect(Collectors.toList());
 
         int width = allFeatures.stream()
-                .map(Feature::getName)
+                .map(FeatureMetadata::getName)
                 .max(Comparator.comparingInt(String::length))
                 .map(String::length).get() + 8;
 
-        Map<String, List<Feature>> featuresByCategory = allFeatures.stream()
-                .sorted(Comparator.comparing(Feature::getName))
-                .collect(Collectors.groupingBy(Feature::getCategory));
+        Map<String, List<FeatureMetadata>> featuresByCategory = allFeatures.stream()
+                .sorted(Comparator.comparing(FeatureMetadata::getName))
+                .collect(Collectors.groupingBy(FeatureMetadata::getCategory));
         featuresByCategory = new TreeMap<>(featuresByCategory);
 
         consoleOutput.out("Available Features");
@@ -88,8 +93,15 @@ public class ListFeatures {
         });
     }
 
-    private void listFeatures(ConsoleOutput consoleOutput, Set<Feature> defaultFeatures, List<Feature> allFeatures, int width) {
-        for (Feature feature: allFeatures) {
+    private Stream<FeatureMetadata> getFeatures() {
+        return FeatureMetadataIndex.getInstance()
+                .map(index -> index.getFeatures().stream()
+                        .filter(f -> f.isVisible() && f.supports(applicationType)))
+                .orElseGet(() -> availableFeatures.getFeatures().map(FeatureMetadata::of));
+    }
+
+    private void listFeatures(ConsoleOutput consoleOutput, Set<String> defaultFeatures, List<FeatureMetadata> allFeatures, int width) {
+        for (FeatureMetadata feature: allFeatures) {
             String name = feature.getName();
             if (feature.isPreview()) {
                 name += " [PREVIEW]";
@@ -97,7 +109,7 @@ public class ListFeatures {
             if (feature.isCommunity()) {
                 name += " [COMMUNITY]";
             }
-            if (defaultFeatures.contains(feature)) {
+            if (defaultFeatures.contains(feature.getName())) {
                 name += " (+)";
                 consoleOutput.out("@|blue   " + String.format("%1$-" + width + "s", name) + feature.getDescription() + "|@");
             } else {
@@ -15,17 +15,23 @@
  */
 package org.grails.forge.api;
 
+import io.micronaut.context.BeanLocator;
 import io.micronaut.context.MessageSource;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.Writable;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import org.grails.forge.application.ApplicationType;
+import org.grails.forge.application.FeatureResolver;
 import org.grails.forge.application.OperatingSystem;
+import org.grails.forge.feature.AvailableFeatures;
 import org.grails.forge.options.*;
 import org.grails.forge.template.RockerWritable;
 import org.grails.forge.template.api.grailsForgeApi;
@@ -41,10 +47,13 @@ import java.io.OutputStream;
 import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -64,20 +73,37 @@ import java.util.stream.Collectors;
 @Controller
 public class ApplicationController implements ApplicationTypeOperations {
 
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final FeatureOperations featureOperations;
     private final GrailsForgeConfiguration configuration;
     private final MessageSource messageSource;
+    private final FeatureResolver featureResolver;
+    private final FeatureSearchService featureSearchService;
+    private final BeanLocator beanLocator;
 
     /**
      * Default constructor.
      * @param featureOperations The feature operations.
      * @param configuration The Grails Application Forge configuration
      * @param messageSource The message source
+     * @param featureResolver The feature resolver
+     * @param featureSearchService The feature search service
+     * @param beanLocator The bean locator
      */
-    public ApplicationController(FeatureOperations featureOperations, GrailsForgeConfiguration configuration, MessageSource messageSource) {
+    public ApplicationController(FeatureOperations featureOperations,
+                                 GrailsForgeConfiguration configuration,
+                                 MessageSource messageSource,
+                                 FeatureResolver featureResolver,
+                                 FeatureSearchService featureSearchService,
+                                 BeanLocator beanLocator) {
         this.featureOperations = featureOperations;
         this.configuration = configuration;
         this.messageSource = messageSource;
+        this.featureResolver = featureResolver;
+        this.featureSearchService = featureSearchService;
+        this.beanLocator = beanLocator;
     }
 
     /**
@@ -195,8 +221,102 @@ public class ApplicationController implements ApplicationTypeOperations {
         return featureList;
     }
 
+    /**
+     * Resolves a partial feature selection without generating the application.
+     * @param type The type
+     * @param requestInfo The request info
+     * @param features The selected features
+     * @param filter features to filter by
+     * @return The resolved, default and incompatible features
+     */
+    @Override
+    @Get("/application-types/{type}/features/resolve{?features,filter*}")
+    public FeatureResolutionDTO resolveFeatures(ApplicationType type,
+                                                RequestInfo requestInfo,
+                                                @Nullable List<String> features,
+                                                @Nullable FeatureFilter filter) {
+        try {
+            FeatureResolutionDTO resolution = new FeatureResolutionDTO(featureResolver.resolve(
+                    beanLocator.getBean(AvailableFeatures.class, Qualifiers.byName(type.getName())),
+                    type,
+                    getOptions(filter, requestInfo),
+                    features == null ? Collections.emptyList() : features));
+            resolution.addLink(
+                    Relationship.SELF,
+                    requestInfo.self()
+            );
+            return resolution;
+        } catch (IllegalArgumentException e) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Searches the features of a type by name, title, category and description.
+     * @param type The type
+     * @param requestInfo The request info
+     * @param q The query
+     * @param limit The maximum number of results, defaults to 10
+     * @return The matching features, best match first
+     */
+    @Override
+    @Get("/application-types/{type}/features/search{?q,limit}")
+    public FeatureMatchList searchFeatures(ApplicationType type,
+                                           RequestInfo requestInfo,
+                                           @Nullable String q,
+                                           @Nullable Integer limit) {
+        int max = limit == null || limit < 1 ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        List<FeatureMatchDTO> matches = q == null ? Collections.emptyList() : featureSearchService
+                .search(requestInfo.getLocale(), type, q, max)
+                .stream()
+                .map(FeatureMatchDTO::new)
+                .collect(Collectors.toList());
+        FeatureMatchList featureMatchList = new FeatureMatchList(matches);
+        featureMatchList.addLink(
+                Relationship.SELF,
+                requestInfo.self()
+        );
+        return featureMatchList;
+    }
+
+    /**
+     * The application types, the features and default features of every type, the select options
+     * and the versions in one document, so a client can render without a request per type.
+     * @param info The request info
+     * @return The catalog
+     */
+    @Get("/catalog")
+    public CatalogDTO catalog(@Parameter(hidden = true) RequestInfo info) {
+        Options options = getOptions(null, info);
+        List<ApplicationTypeDTO> types = new ArrayList<>();
+        Map<String, List<FeatureDTO>> features = new LinkedHashMap<>();
+        Map<String, List<String>> defaultFeatures = new LinkedHashMap<>();
+        for (ApplicationType type : ApplicationType.values()) {
+            types.add(typeToDTO(type, info, false));
+            features.put(type.getName(), featureOperations.getFeatures(info.getLocale(), type, options));
+            defaultFeatures.put(type.getName(), featureOperations.getDefaultFeatures(info.getLocale(), type, options).stream()
+                    .map(FeatureDTO::getName)
+                    .collect(Collectors.toList()));
+        }
+        CatalogDTO catalog = new CatalogDTO(
+                types,
+                features,
+                defaultFeatures,
+                SelectOptionsDTO.make(messageSource, MessageSource.MessageContext.of(info.getLocale())),
+                new VersionDTO().addLink(Relationship.SELF, info.link("/versions"))
+        );
+        catalog.addLink(
+                Relationship.SELF,
+                info.self()
+        );
+        return catalog;
+    }
+
     private ApplicationTypeDTO typeToDTO(ApplicationType type, RequestInfo requestInfo, boolean includeFeatures) {
-        List<FeatureDTO> features = includeFeatures ? featureOperations.getFeatures(requestInfo.getLocale(), type) : Collections.emptyList();
+        // the listed features are shared, so the links are added to copies
+        List<FeatureDTO> features = includeFeatures ? featureOperations.getFeatures(requestInfo.getLocale(), type).stream()
+                .map(FeatureDTO::new)
+                .collect(Collectors.toList()) : Collections.emptyList();
         features.forEach(featureDTO -> featureDTO.addLink(
                 Relationship.DIFF,
                 requestInfo.link("/diff/" + type.getName() + "/feature/" + featureDTO.getName())
@@ -21,6 +21,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import org.grails.forge.application.ApplicationType;
 import org.grails.forge.options.FeatureFilter;
 
+import java.util.List;
+
 /**
  * Operations on application types.
  *
@@ -69,4 +71,32 @@ public interface ApplicationTypeOperations {
     FeatureList defaultFeatures(ApplicationType type,
                                 @Parameter(hidden = true) RequestInfo serverURL,
                                 @Nullable FeatureFilter filter);
+
+    /**
+     * Resolves a partial feature selection without generating the application.
+     * @param type The type
+     * @param serverURL The server URL
+     * @param features The selected features
+     * @param filter features to filter by
+     * @return The resolved, default and incompatible features
+     */
+    @Get("/application-types/{type}/features/resolve{?features,filter*}")
+    FeatureResolutionDTO resolveFeatures(ApplicationType type,
+                                         @Parameter(hidden = true) RequestInfo serverURL,
+                                         @Nullable List<String> features,
+                                         @Nullable FeatureFilter filter);
+
+    /**
+     * Searches the features of a type by name, title, category and description.
+     * @param type The type
+     * @param serverURL The server URL
+     * @param q The query
+     * @param limit The maximum number of results
+     * @return The matching features, best match first
+     */
+    @Get("/application-types/{type}/features/search{?q,limit}")
+    FeatureMatchList searchFeatures(ApplicationType type,
+                                    @Parameter(hidden = true) RequestInfo serverURL,
+                                    @Nullable String q,
+                                    @Nullable Integer limit);
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api;
+
+import io.micronaut.core.annotation.Introspected;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything a client needs to render the selection of an application in a single document:
+ * the application types, the features and default features of every type, the select options
+ * and the versions.
+ *
+ * @since 7.0.0
+ */
+@Schema(name = "Catalog", description = "The application types, their features and defaults, the select options and the versions")
+@Introspected
+public class CatalogDTO extends Linkable {
+
+    private List<ApplicationTypeDTO> types;
+    private Map<String, List<FeatureDTO>> features;
+    private Map<String, List<String>> defaultFeatures;
+    private SelectOptionsDTO options;
+    private VersionDTO versions;
+
+    /**
+     * Constructor.
+     */
+    public CatalogDTO() {
+    }
+
+    /**
+     * @param types           The application types
+     * @param features        The features by application type name
+     * @param defaultFeatures The names of the default features by application type name
+     * @param options         The select options
+     * @param versions        The versions
+     */
+    public CatalogDTO(List<ApplicationTypeDTO> types,
+                      Map<String, List<FeatureDTO>> features,
+                      Map<String, List<String>> defaultFeatures,
+                      SelectOptionsDTO options,
+                      VersionDTO versions) {
+        this.types = types;
+        this.features = features;
+        this.defaultFeatures = defaultFeatures;
+        this.options = options;
+        this.versions = versions;
+    }
+
+    /**
+     * @return The application types
+     */
+    @Schema(description = "The application types")
+    public List<ApplicationTypeDTO> getTypes() {
+        return types;
+    }
+
+    /**
+     * @param types The application types
+     */
+    public void setTypes(List<ApplicationTypeDTO> types) {
+        this.types = types;
+    }
+
+    /**
+     * @return The features by application type name
+     */
+    @Schema(description = "The features by application type name")
+    public Map<String, List<FeatureDTO>> getFeatures() {
+        return features;
+    }
+
+    /**
+     * @param features The features by application type name
+     */
+    public void setFeatures(Map<String, List<FeatureDTO>> features) {
+        this.features = features;
+    }
+
+    /**
+     * @return The names of the default features by application type name
+     */
+    @Schema(description = "The names of the default features by application type name")
+    public Map<String, List<String>> getDefaultFeatures() {
+        return defaultFeatures;
+    }
+
+    /**
+     * @param defaultFeatures The names of the default features by application type name
+     */
+    public void setDefaultFeatures(Map<String, List<String>> defaultFeatures) {
+        this.defaultFeatures = defaultFeatures;
+    }
+
+    /**
+     * @return The select options
+     */
+    @Schema(description = "The select options and their defaults")
+    public SelectOptionsDTO getOptions() {
+        return options;
+    }
+
+    /**
+     * @param options The select options
+     */
+    public void setOptions(SelectOptionsDTO options) {
+        this.options = options;
+    }
+
+    /**
+     * @return The versions
+     */
+    @Schema(description = "The versions")
+    public VersionDTO getVersions() {
+        return versions;
+    }
+
+    /**
+     * @param versions The versions
+     */
+    public void setVersions(VersionDTO versions) {
+        this.versions = versions;
+    }
+}
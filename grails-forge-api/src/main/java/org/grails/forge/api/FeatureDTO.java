@@ -21,6 +21,7 @@ import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.naming.Described;
 import io.micronaut.core.naming.Named;
 import org.grails.forge.feature.Feature;
+import org.grails.forge.feature.FeatureMetadata;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -57,6 +58,35 @@ public class FeatureDTO extends Linkable implements Named, Described {
         this.community = feature.isCommunity();
     }
 
+    /**
+     * Copies a feature without its links.
+     * @param feature The feature
+     * @since 7.0.0
+     */
+    public FeatureDTO(FeatureDTO feature) {
+        this.name = feature.name;
+        this.title = feature.title;
+        this.description = feature.description;
+        this.category = feature.category;
+        this.preview = feature.preview;
+        this.community = feature.community;
+    }
+
+    /**
+     * @param feature The feature metadata
+     * @param messageSource The message source
+     * @param messageContext The messageContext
+     * @since 7.0.0
+     */
+    public FeatureDTO(FeatureMetadata feature, MessageSource messageSource, MessageSource.MessageContext messageContext) {
+        this.name = feature.getName();
+        this.title = messageSource.getMessage(MESSAGE_PREFIX + this.name + ".title", messageContext, feature.getTitle());
+        this.description = messageSource.getMessage(MESSAGE_PREFIX + this.name + ".description", messageContext, feature.getDescription());
+        this.category = feature.getCategory();
+        this.preview = feature.isPreview();
+        this.community = feature.isCommunity();
+    }
+
     /**
      * Default constructor.
      * @param name The name
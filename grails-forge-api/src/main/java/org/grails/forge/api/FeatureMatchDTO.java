@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api;
+
+import io.micronaut.core.annotation.Creator;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.naming.Named;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A feature matching a search, without its description.
+ *
+ * @since 7.0.0
+ */
+@Introspected
+@Schema(name = "FeatureMatch")
+public class FeatureMatchDTO implements Named {
+
+    private final String name;
+    private final String title;
+    private final String category;
+
+    /**
+     * @param feature The feature
+     */
+    public FeatureMatchDTO(FeatureDTO feature) {
+        this(feature.getName(), feature.getTitle(), feature.getCategory());
+    }
+
+    /**
+     * @param name The name
+     * @param title The title
+     * @param category The category
+     */
+    @Creator
+    public FeatureMatchDTO(String name, String title, String category) {
+        this.name = name;
+        this.title = title;
+        this.category = category;
+    }
+
+    /**
+     * @return The name of the feature
+     */
+    @Schema(description = "The name of the feature")
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The title of the feature
+     */
+    @Schema(description = "The title of the feature")
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return The category to which this feature belongs to
+     */
+    @Schema(description = "The category to which this feature belongs to")
+    public String getCategory() {
+        return category;
+    }
+}
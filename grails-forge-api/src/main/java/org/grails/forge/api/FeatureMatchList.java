@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api;
+
+import io.micronaut.core.annotation.Introspected;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Models the features matching a search.
+ *
+ * @since 7.0.0
+ */
+@Schema(description = "A list of matching features")
+@Introspected
+public class FeatureMatchList extends Linkable {
+    private List<FeatureMatchDTO> features;
+
+    /**
+     * Constructor.
+     */
+    public FeatureMatchList() {
+
+    }
+
+    /**
+     *
+     * @param features The matching features, best match first.
+     */
+    public FeatureMatchList(List<FeatureMatchDTO> features) {
+        this.features = features;
+    }
+
+    /**
+     * @return The matching features, best match first.
+     */
+    @Schema(description = "The matching features, best match first")
+    public List<FeatureMatchDTO> getFeatures() {
+        return features;
+    }
+
+    /**
+     *
+     * @param features The matching features.
+     */
+    public void setFeatures(List<FeatureMatchDTO> features) {
+        this.features = features;
+    }
+}
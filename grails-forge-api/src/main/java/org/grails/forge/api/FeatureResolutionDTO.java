@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api;
+
+import io.micronaut.core.annotation.Creator;
+import io.micronaut.core.annotation.Introspected;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.grails.forge.application.FeatureResolution;
+import org.grails.forge.feature.Feature;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Models the features a partial selection resolves to.
+ *
+ * @since 7.0.0
+ */
+@Introspected
+@Schema(name = "FeatureResolution", description = "The features a selection resolves to")
+public class FeatureResolutionDTO extends Linkable {
+
+    private final List<String> features;
+    private final List<String> defaultFeatures;
+    private final List<String> incompatibleFeatures;
+
+    /**
+     * @param resolution The resolution
+     */
+    public FeatureResolutionDTO(FeatureResolution resolution) {
+        this(names(resolution.getResolvedFeatures()),
+                names(resolution.getDefaultFeatures()),
+                names(resolution.getIncompatibleFeatures()));
+    }
+
+    /**
+     * @param features             The resolved features
+     * @param defaultFeatures      The default features that apply
+     * @param incompatibleFeatures The features that can no longer be selected
+     */
+    @Creator
+    public FeatureResolutionDTO(List<String> features, List<String> defaultFeatures, List<String> incompatibleFeatures) {
+        this.features = features;
+        this.defaultFeatures = defaultFeatures;
+        this.incompatibleFeatures = incompatibleFeatures;
+    }
+
+    /**
+     * @return The resolved features
+     */
+    @Schema(description = "Every feature the application would have, including the ones added by other features")
+    public List<String> getFeatures() {
+        return features;
+    }
+
+    /**
+     * @return The default features
+     */
+    @Schema(description = "The default features that apply to the selection")
+    public List<String> getDefaultFeatures() {
+        return defaultFeatures;
+    }
+
+    /**
+     * @return The incompatible features
+     */
+    @Schema(description = "The features that can no longer be added to the selection")
+    public List<String> getIncompatibleFeatures() {
+        return incompatibleFeatures;
+    }
+
+    private static List<String> names(List<Feature> features) {
+        return features.stream()
+                .map(Feature::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * An in memory search index over the name, title, category and description of features.
+ * Words are kept sorted for prefix lookups and every field is split into trigrams so that
+ * substrings and slightly misspelled terms still match.
+ *
+ * @since 7.0.0
+ */
+final class FeatureSearchIndex {
+
+    private static final int NAME_WEIGHT = 8;
+    private static final int TITLE_WEIGHT = 4;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int GRAM_LENGTH = 3;
+    private static final double MIN_GRAM_COVERAGE = 0.6;
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final FeatureDTO[] features;
+    private final String[] words;
+    private final int[] wordFeatures;
+    private final int[] wordWeights;
+    private final Map<String, int[]> grams;
+
+    /**
+     * @param features The features to index
+     */
+    FeatureSearchIndex(List<FeatureDTO> features) {
+        this.features = features.toArray(new FeatureDTO[0]);
+        List<Word> entries = new ArrayList<>();
+        Map<String, BitSet> postings = new HashMap<>();
+        for (int i = 0; i < this.features.length; i++) {
+            FeatureDTO feature = this.features[i];
+            entries.add(new Word(normalize(feature.getName()), i, NAME_WEIGHT));
+            addWords(entries, i, feature.getName(), NAME_WEIGHT);
+            addWords(entries, i, feature.getTitle(), TITLE_WEIGHT);
+            addWords(entries, i, feature.getCategory(), CATEGORY_WEIGHT);
+            addWords(entries, i, feature.getDescription(), DESCRIPTION_WEIGHT);
+            for (String text : Arrays.asList(feature.getName(), feature.getTitle(), feature.getCategory(), feature.getDescription())) {
+                for (String gram : grams(normalize(text))) {
+                    postings.computeIfAbsent(gram, g -> new BitSet()).set(i);
+                }
+            }
+        }
+        entries.sort(Comparator.comparing((Word word) -> word.text));
+        this.words = new String[entries.size()];
+        this.wordFeatures = new int[entries.size()];
+        this.wordWeights = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            Word word = entries.get(i);
+            words[i] = word.text;
+            wordFeatures[i] = word.feature;
+            wordWeights[i] = word.weight;
+        }
+        this.grams = new HashMap<>(postings.size());
+        postings.forEach((gram, bits) -> grams.put(gram, bits.stream().toArray()));
+    }
+
+    /**
+     * Every term of the query must match a feature, either as a word prefix or through
+     * enough of its trigrams. Prefix matches on the name rank highest.
+     *
+     * @param query The query
+     * @param limit The maximum number of results
+     * @return The matching features, best match first
+     */
+    List<FeatureDTO> search(String query, int limit) {
+        int[] total = null;
+        for (String term : WORD_SEPARATOR.split(normalize(query))) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            int[] scores = score(term);
+            if (total == null) {
+                total = scores;
+            } else {
+                for (int i = 0; i < total.length; i++) {
+                    total[i] = total[i] == 0 || scores[i] == 0 ? 0 : total[i] + scores[i];
+                }
+            }
+        }
+        if (total == null) {
+            return Collections.emptyList();
+        }
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < total.length; i++) {
+            if (total[i] > 0) {
+                matches.add(i);
+            }
+        }
+        int[] scores = total;
+        matches.sort(Comparator.comparingInt((Integer i) -> -scores[i]).thenComparing(i -> features[i].getName()));
+        List<FeatureDTO> results = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            results.add(features[matches.get(i)]);
+        }
+        return results;
+    }
+
+    private int[] score(String term) {
+        int[] scores = new int[features.length];
+        for (int i = lowerBound(term); i < words.length && words[i].startsWith(term); i++) {
+            int score = words[i].length() == term.length() ? wordWeights[i] * 2 : wordWeights[i];
+            scores[wordFeatures[i]] = Math.max(scores[wordFeatures[i]], score);
+        }
+        List<String> termGrams = grams(term);
+        if (!termGrams.isEmpty()) {
+            int[] hits = new int[features.length];
+            for (String gram : termGrams) {
+                int[] posting = grams.get(gram);
+                if (posting != null) {
+                    for (int feature : posting) {
+                        hits[feature]++;
+                    }
+                }
+            }
+            for (int i = 0; i < hits.length; i++) {
+                if (scores[i] == 0 && hits[i] >= termGrams.size() * MIN_GRAM_COVERAGE) {
+                    scores[i] = DESCRIPTION_WEIGHT;
+                }
+            }
+        }
+        return scores;
+    }
+
+    private int lowerBound(String term) {
+        int low = 0;
+        int high = words.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (words[mid].compareTo(term) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void addWords(List<Word> entries, int feature, String text, int weight) {
+        for (String word : WORD_SEPARATOR.split(normalize(text))) {
+            if (!word.isEmpty()) {
+                entries.add(new Word(word, feature, weight));
+            }
+        }
+    }
+
+    private static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A word of a feature field.
+     */
+    private static final class Word {
+
+        private final String text;
+        private final int feature;
+        private final int weight;
+
+        private Word(String text, int feature, int weight) {
+            this.text = text;
+            this.feature = feature;
+            this.weight = weight;
+        }
+    }
+}
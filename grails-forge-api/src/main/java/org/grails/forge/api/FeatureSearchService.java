@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.MessageSource;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Singleton;
+import org.grails.forge.application.ApplicationType;
+import org.grails.forge.feature.AvailableFeatures;
+import org.grails.forge.feature.FeatureMetadataIndex;
+import org.grails.forge.util.LruCache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Searches the features of an application type. A search index is built once per application
+ * type and locale from the localized titles and descriptions. The features are read from the
+ * {@link FeatureMetadataIndex} generated at build time when it is available, so building an index
+ * does not instantiate them. The locale comes from the request, so only the most recently used
+ * indexes are kept.
+ *
+ * @since 7.0.0
+ */
+@Singleton
+public class FeatureSearchService {
+
+    private static final int MAX_INDEXES = 32;
+
+    private final BeanLocator beanLocator;
+    private final MessageSource messageSource;
+    private final LruCache<List<Object>, FeatureSearchIndex> indexes = new LruCache<>(MAX_INDEXES);
+
+    /**
+     * @param beanLocator   The bean locator
+     * @param messageSource The {@link MessageSource} to support internationalization
+     */
+    public FeatureSearchService(BeanLocator beanLocator, MessageSource messageSource) {
+        this.beanLocator = beanLocator;
+        this.messageSource = messageSource;
+    }
+
+    /**
+     * @param locale The locale
+     * @param type   The application type
+     * @param query  The query
+     * @param limit  The maximum number of results
+     * @return The matching visible features, best match first
+     */
+    public List<FeatureDTO> search(Locale locale, ApplicationType type, String query, int limit) {
+        return indexes.computeIfAbsent(Arrays.asList(type, locale), key -> createIndex(locale, type))
+                .search(query, limit);
+    }
+
+    private FeatureSearchIndex createIndex(Locale locale, ApplicationType type) {
+        MessageSource.MessageContext context = MessageSource.MessageContext.of(locale);
+        return new FeatureSearchIndex(getFeatures(context, type).collect(Collectors.toList()));
+    }
+
+    private Stream<FeatureDTO> getFeatures(MessageSource.MessageContext context, ApplicationType type) {
+        Optional<FeatureMetadataIndex> index = FeatureMetadataIndex.getInstance();
+        if (index.isPresent()) {
+            return index.get().getFeatures().stream()
+                    .filter(feature -> feature.isVisible() && feature.supports(type))
+                    .map(feature -> new FeatureDTO(feature, messageSource, context));
+        }
+        return beanLocator.getBean(AvailableFeatures.class, Qualifiers.byName(type.getName()))
+                .getFeatures()
+                .map(feature -> new FeatureDTO(feature, messageSource, context));
+    }
+}
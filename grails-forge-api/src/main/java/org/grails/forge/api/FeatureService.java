@@ -17,85 +17,132 @@ package org.grails.forge.api;
 
 import io.micronaut.context.BeanLocator;
 import io.micronaut.context.MessageSource;
-import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Singleton;
 import org.grails.forge.application.ApplicationType;
-import org.grails.forge.feature.AvailableFeatures;
 import org.grails.forge.feature.DefaultFeature;
 import org.grails.forge.feature.Feature;
+import org.grails.forge.feature.FeatureMetadata;
+import org.grails.forge.feature.FeatureMetadataIndex;
 import org.grails.forge.options.Options;
+import org.grails.forge.util.LruCache;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implements the {@link FeatureOperations} interface.
  *
+ * Features are listed from the {@link FeatureMetadataIndex} generated at build time when it is
+ * available, so only the default features have to be instantiated. The localized lists of the most
+ * recently used locales, application types and options are cached, they are shared and must not be modified.
+ *
  * @author graemerocher
  * @since 6.0.0
  */
 @Singleton
 public class FeatureService implements FeatureOperations {
 
-    private final List<Feature> features;
+    private static final int MAX_CACHED_LISTS = 256;
+
     private final BeanLocator beanLocator;
     private final MessageSource messageSource;
+    private final LruCache<List<Object>, List<FeatureDTO>> cache = new LruCache<>(MAX_CACHED_LISTS);
 
     /**
      * Default constructor.
      *
-     * @param features      The features
      * @param beanLocator   The bean locator
      * @param messageSource The {@link MessageSource} to support internationalization
      */
-    public FeatureService(List<Feature> features, BeanLocator beanLocator, MessageSource messageSource) {
-        this.features = features;
+    public FeatureService(BeanLocator beanLocator, MessageSource messageSource) {
         this.beanLocator = beanLocator;
         this.messageSource = messageSource;
     }
 
     @Override
     public List<FeatureDTO> getAllFeatures(Locale locale) {
-        MessageSource.MessageContext context = MessageSource.MessageContext.of(locale);
-        return features.stream()
-                .filter(Feature::isVisible)
-                .map(feature -> new FeatureDTO(feature, messageSource, context))
-                .sorted(Comparator.comparing(FeatureDTO::getName))
-                .collect(Collectors.toList());
+        return cached(Arrays.asList("all", locale), () -> listAllFeatures(locale));
     }
 
     @Override
     public List<FeatureDTO> getFeatures(Locale locale, ApplicationType type, Options options) {
+        return cached(key("features", locale, type, options), () -> listFeatures(locale, type, options));
+    }
+
+    @Override
+    public List<FeatureDTO> getDefaultFeatures(Locale locale, ApplicationType type, Options options) {
+        return cached(key("default", locale, type, options), () -> listDefaultFeatures(locale, type, options));
+    }
+
+    private List<FeatureDTO> listAllFeatures(Locale locale) {
         MessageSource.MessageContext context = MessageSource.MessageContext.of(locale);
-        return beanLocator.getBean(AvailableFeatures.class, Qualifiers.byName(type.getName()))
-                .getFeatures()
-                .filter(f -> !shouldApplyDefaultFeature(type, f, options))
+        return getFeatureMetadata()
+                .filter(FeatureMetadata::isVisible)
                 .map(feature -> new FeatureDTO(feature, messageSource, context))
                 .sorted(Comparator.comparing(FeatureDTO::getName))
                 .collect(Collectors.toList());
     }
 
-    private static boolean shouldApplyDefaultFeature(ApplicationType type, Feature f, Options options) {
-        return f instanceof DefaultFeature &&
-                ((DefaultFeature) f).shouldApply(type, options, new HashSet<>());
+    private List<FeatureDTO> listFeatures(Locale locale, ApplicationType type, Options options) {
+        MessageSource.MessageContext context = MessageSource.MessageContext.of(locale);
+        Set<String> defaultFeatures = getDefaultFeatures(type, options)
+                .map(Feature::getName)
+                .collect(Collectors.toSet());
+        return getFeatureMetadata()
+                .filter(f -> f.isVisible() && f.supports(type))
+                .filter(f -> !defaultFeatures.contains(f.getName()))
+                .map(feature -> new FeatureDTO(feature, messageSource, context))
+                .sorted(Comparator.comparing(FeatureDTO::getName))
+                .collect(Collectors.toList());
     }
 
-    @Override
-    public List<FeatureDTO> getDefaultFeatures(Locale locale, ApplicationType type, Options options) {
+    private List<FeatureDTO> listDefaultFeatures(Locale locale, ApplicationType type, Options options) {
         MessageSource.MessageContext context = MessageSource.MessageContext.of(locale);
-        return beanLocator.getBean(AvailableFeatures.class, Qualifiers.byName(type.getName()))
-                .getFeatures()
-                .filter(f -> f instanceof DefaultFeature)
-                .map(DefaultFeature.class::cast)
-                .filter(f -> f.shouldApply(
-                        type,
-                        options,
-                        new HashSet<>()))
+        return getDefaultFeatures(type, options)
                 .map(feature -> new FeatureDTO(feature, messageSource, context))
                 .sorted(Comparator.comparing(FeatureDTO::getName))
                 .collect(Collectors.toList());
     }
+
+    private List<FeatureDTO> cached(List<Object> key, Supplier<List<FeatureDTO>> features) {
+        if (key == null) {
+            return features.get();
+        }
+        return cache.computeIfAbsent(key, k -> Collections.unmodifiableList(features.get()));
+    }
+
+    /**
+     * @return The cache key, or null when the options include additional options that may affect the defaults
+     */
+    private static List<Object> key(String list, Locale locale, ApplicationType type, Options options) {
+        if (!options.names().isEmpty()) {
+            return null;
+        }
+        return Arrays.asList(list, locale, type, options.getTestFramework(), options.getBuildTool(), options.getGormImpl(),
+                options.getServletImpl(), options.getJavaVersion(), options.getOperatingSystem());
+    }
+
+    private Stream<FeatureMetadata> getFeatureMetadata() {
+        Optional<FeatureMetadataIndex> index = FeatureMetadataIndex.getInstance();
+        if (index.isPresent()) {
+            return index.get().getFeatures().stream();
+        }
+        return beanLocator.getBeansOfType(Feature.class).stream().map(FeatureMetadata::of);
+    }
+
+    private Stream<Feature> getDefaultFeatures(ApplicationType type, Options options) {
+        return beanLocator.getBeansOfType(DefaultFeature.class).stream()
+                .filter(f -> f.supports(type) && f.isVisible())
+                .filter(f -> f.shouldApply(type, options, new HashSet<>()))
+                .map(Feature.class::cast);
+    }
 }
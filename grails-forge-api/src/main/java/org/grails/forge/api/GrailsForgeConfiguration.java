@@ -101,10 +101,14 @@ public class GrailsForgeConfiguration {
     public static class GitHubConfiguration {
         public static final String PREFIX = "github";
         public static final String DEFAULT_USER_AGENT = "https://grails.github.io/grails-forge-ui/";
+        public static final int DEFAULT_WORKERS = 2;
+        public static final int DEFAULT_QUEUE_SIZE = 32;
 
         private String clientId;
         private String clientSecret;
         private String tokenPermissions;
+        private int workers = DEFAULT_WORKERS;
+        private int queueSize = DEFAULT_QUEUE_SIZE;
 
         private String userAgent = DEFAULT_USER_AGENT;
 
@@ -160,5 +164,73 @@ public class GrailsForgeConfiguration {
         public void setTokenPermissions(String tokenPermissions) {
             this.tokenPermissions = tokenPermissions;
         }
+
+        /**
+         * @return The number of repositories created at the same time
+         */
+        public int getWorkers() {
+            return workers;
+        }
+
+        /**
+         * Sets the number of repositories created at the same time. Default value ({@value #DEFAULT_WORKERS}).
+         * @param workers The number of workers
+         */
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        /**
+         * @return The number of repository creations waiting for a worker before new ones are rejected
+         */
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        /**
+         * Sets the number of repository creations waiting for a worker before new ones are rejected. Default value ({@value #DEFAULT_QUEUE_SIZE}).
+         * @param queueSize The queue size
+         */
+        public void setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+        }
+    }
+
+    @ConfigurationProperties(VersionCatalogConfiguration.PREFIX)
+    public static class VersionCatalogConfiguration {
+        public static final String PREFIX = "version-catalog";
+
+        private String path;
+        private String token;
+
+        /**
+         * @return The directory the version catalog is reloaded from
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Sets the directory containing grails-versions.properties and/or dependency-coordinates.txt.
+         * @param path The directory
+         */
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        /**
+         * @return The token required to trigger a reload over HTTP
+         */
+        public String getToken() {
+            return token;
+        }
+
+        /**
+         * Sets the token required to trigger a reload over HTTP. The endpoint is disabled without one.
+         * @param token The token
+         */
+        public void setToken(String token) {
+            this.token = token;
+        }
     }
 }
@@ -60,7 +60,19 @@ public class RequestInfoArgumentBinder implements TypedRequestArgumentBinder<Req
                 source.getLocale().orElse(Locale.ENGLISH), source.getHeaders().get(HttpHeaders.USER_AGENT)));
     }
 
-    private String resolveUrl(HttpRequest<?> request) {
+    /**
+     * @return Whether the server URL is configured rather than taken from the request
+     * @since 7.0.0
+     */
+    public boolean isUrlConfigured() {
+        return configuration.getUrl().isPresent();
+    }
+
+    /**
+     * @param request The request
+     * @return The server URL links are built from
+     */
+    public String resolveUrl(HttpRequest<?> request) {
 
         String cp = configuration.getPath().orElse("");
         String url = configuration.getUrl().map(Object::toString).orElse(null);
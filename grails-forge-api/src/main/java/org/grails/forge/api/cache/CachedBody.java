@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body serialized once, together with its strong entity tag. Bodies large enough to
+ * benefit are also compressed once, and sent compressed to clients that accept gzip.
+ *
+ * @since 7.0.0
+ */
+public final class CachedBody {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int ETAG_BYTES = 16;
+    private static final int MIN_COMPRESSED_LENGTH = 1024;
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT_LANGUAGE + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final byte[] bytes;
+    private final String etag;
+    private final MediaType contentType;
+    @Nullable
+    private final byte[] gzipped;
+    @Nullable
+    private final String gzippedEtag;
+
+    private CachedBody(byte[] bytes, String etag, MediaType contentType, @Nullable byte[] gzipped) {
+        this.bytes = bytes;
+        this.etag = etag;
+        this.contentType = contentType;
+        this.gzipped = gzipped;
+        // a strong entity tag identifies one representation, so the encoded one gets its own
+        this.gzippedEtag = gzipped != null ? etag.substring(0, etag.length() - 1) + "-" + GZIP + "\"" : null;
+    }
+
+    /**
+     * @param bytes       The serialized body
+     * @param contentType The content type
+     * @return The body tagged with a digest of its bytes
+     */
+    @NonNull
+    public static CachedBody of(@NonNull byte[] bytes, @NonNull MediaType contentType) {
+        return new CachedBody(bytes, etag(bytes), contentType, bytes.length >= MIN_COMPRESSED_LENGTH ? gzip(bytes) : null);
+    }
+
+    /**
+     * @return The entity tag, quoted
+     */
+    @NonNull
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * @return The serialized body
+     */
+    @NonNull
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @param ifNoneMatch The value of the {@code If-None-Match} header
+     * @return Whether the client already has this body
+     */
+    public boolean matches(@Nullable String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(gzippedEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Responds with the body, or with 304 when the request already has it.
+     *
+     * @param request      The request
+     * @param cacheControl The {@code Cache-Control} header value
+     * @return The response
+     */
+    @NonNull
+    public MutableHttpResponse<?> respond(@NonNull HttpRequest<?> request, @NonNull String cacheControl) {
+        boolean compressed = gzipped != null && acceptsGzip(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+        MutableHttpResponse<?> response;
+        if (matches(request.getHeaders().get(HttpHeaders.IF_NONE_MATCH))) {
+            response = HttpResponse.notModified();
+        } else if (compressed) {
+            // the server only compresses responses without a content encoding, so these bytes are sent as they are
+            response = HttpResponse.ok(gzipped)
+                    .contentType(contentType)
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        } else {
+            response = HttpResponse.ok(bytes).contentType(contentType);
+        }
+        return response
+                .header(HttpHeaders.ETAG, compressed ? gzippedEtag : etag)
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .header(HttpHeaders.VARY, VARY);
+    }
+
+    /**
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header
+     * @return Whether gzip is accepted, with a quality above zero
+     */
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            if (!parts[0].trim().equalsIgnoreCase(GZIP)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Nullable
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(compressed)) {
+            outputStream.write(bytes);
+        } catch (IOException e) {
+            // not expected in memory, the body is then only sent uncompressed
+            return null;
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            char[] chars = new char[ETAG_BYTES * 2 + 2];
+            chars[0] = '"';
+            for (int i = 0; i < ETAG_BYTES; i++) {
+                chars[1 + i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                chars[2 + i * 2] = HEX[digest[i] & 0xF];
+            }
+            chars[chars.length - 1] = '"';
+            return new String(chars);
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM provides SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.cache;
+
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.Filter;
+import io.micronaut.http.filter.HttpServerFilter;
+import io.micronaut.http.filter.ServerFilterChain;
+import io.micronaut.json.JsonMapper;
+import org.grails.forge.api.bind.RequestInfoArgumentBinder;
+import org.grails.forge.util.LruCache;
+import org.grails.forge.util.VersionCatalog;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves the read-only metadata endpoints from JSON bodies serialized once per version catalog,
+ * locale, path and feature filter, with strong ETags, {@code If-None-Match} handling and
+ * {@code Cache-Control} headers. The bodies only change on deploy or when the catalog is reloaded.
+ * Larger bodies are also kept gzip compressed, see {@link CachedBody}.
+ *
+ * Bodies are only shared between requests when the server URL is configured, since the links are
+ * otherwise built from the {@code Host} header. The key is built from request input, so only the
+ * most recently used bodies are kept.
+ *
+ * @since 7.0.0
+ */
+@Filter(value = {
+        "/catalog",
+        "/versions",
+        "/select-options",
+        "/select-options/",
+        "/application-types",
+        "/application-types/*",
+        "/application-types/*/features",
+        "/application-types/*/features/default"
+}, methods = HttpMethod.GET)
+public class MetadataCacheFilter implements HttpServerFilter {
+
+    public static final String CACHE_CONTROL = "public, max-age=3600";
+    private static final Logger LOG = LoggerFactory.getLogger(MetadataCacheFilter.class);
+    private static final int MAX_CACHED_BODIES = 512;
+    private static final List<String> FILTER_PARAMETERS = Arrays.asList("test", "gorm", "servlet", "javaVersion");
+
+    private final LruCache<List<Object>, CachedBody> bodies = new LruCache<>(MAX_CACHED_BODIES);
+    private final AtomicLong revision = new AtomicLong();
+    private final JsonMapper jsonMapper;
+    private final RequestInfoArgumentBinder requestInfoBinder;
+
+    public MetadataCacheFilter(JsonMapper jsonMapper, RequestInfoArgumentBinder requestInfoBinder) {
+        this.jsonMapper = jsonMapper;
+        this.requestInfoBinder = requestInfoBinder;
+    }
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+        long catalogRevision = VersionCatalog.current().getRevision();
+        if (revision.getAndSet(catalogRevision) != catalogRevision) {
+            bodies.clear();
+        }
+        List<Object> key = requestInfoBinder.isUrlConfigured() ? key(request, catalogRevision) : null;
+        CachedBody cached = key != null ? bodies.get(key) : null;
+        if (cached != null) {
+            return Publishers.just(cached.respond(request, CACHE_CONTROL));
+        }
+        return Flux.from(chain.proceed(request)).map(response -> {
+            if (response.status() != HttpStatus.OK || !response.getBody().isPresent()) {
+                return response;
+            }
+            CachedBody body;
+            try {
+                body = CachedBody.of(jsonMapper.writeValueAsBytes(response.getBody().get()), MediaType.APPLICATION_JSON_TYPE);
+            } catch (IOException e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Error serializing " + request.getPath() + ": " + e.getMessage(), e);
+                }
+                return response;
+            }
+            if (key != null) {
+                body = bodies.putIfAbsent(key, body);
+            }
+            return body.respond(request, CACHE_CONTROL);
+        });
+    }
+
+    /**
+     * Only the feature filter parameters change the bodies, any other query parameter is ignored.
+     */
+    private static List<Object> key(HttpRequest<?> request, long catalogRevision) {
+        List<Object> key = new ArrayList<>(FILTER_PARAMETERS.size() + 3);
+        key.add(catalogRevision);
+        key.add(request.getLocale().orElse(Locale.ENGLISH));
+        key.add(request.getPath());
+        for (String parameter : FILTER_PARAMETERS) {
+            key.add(request.getParameters().get(parameter));
+        }
+        return key;
+    }
+}
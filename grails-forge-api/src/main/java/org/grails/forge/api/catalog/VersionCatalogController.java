@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.catalog;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.swagger.v3.oas.annotations.Hidden;
+import org.grails.forge.api.GrailsForgeConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Reloads the version catalog without a restart. Only enabled when a token is configured.
+ *
+ * @since 7.0.0
+ */
+@Hidden
+@Controller("/admin/version-catalog")
+@Requires(beans = VersionCatalogService.class)
+@Requires(property = VersionCatalogController.TOKEN)
+public class VersionCatalogController {
+
+    public static final String TOKEN = GrailsForgeConfiguration.PREFIX + "." + GrailsForgeConfiguration.VersionCatalogConfiguration.PREFIX + ".token";
+    public static final String TOKEN_HEADER = "X-Forge-Admin-Token";
+
+    private final VersionCatalogService versionCatalogService;
+    private final byte[] token;
+
+    public VersionCatalogController(VersionCatalogService versionCatalogService,
+                                    GrailsForgeConfiguration.VersionCatalogConfiguration configuration) {
+        this.versionCatalogService = versionCatalogService;
+        this.token = configuration.getToken().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reloads the version catalog from the configured directory.
+     *
+     * @param token The admin token
+     * @return The catalog now in use
+     * @throws IOException If the catalog cannot be read
+     */
+    @Post(uri = "/reload", produces = MediaType.APPLICATION_JSON)
+    public VersionCatalogDTO reload(@Nullable @Header(TOKEN_HEADER) String token) throws IOException {
+        if (this.token.length == 0 || token == null || !MessageDigest.isEqual(this.token, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new HttpStatusException(HttpStatus.FORBIDDEN, "Invalid admin token");
+        }
+        return new VersionCatalogDTO(versionCatalogService.reload());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.catalog;
+
+import io.micronaut.core.annotation.Introspected;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.grails.forge.util.VersionCatalog;
+
+/**
+ * Describes the version catalog in use.
+ *
+ * @since 7.0.0
+ */
+@Introspected
+@Schema(name = "VersionCatalog")
+public class VersionCatalogDTO {
+
+    private final long revision;
+    private final String grailsVersion;
+
+    public VersionCatalogDTO(VersionCatalog catalog) {
+        this.revision = catalog.getRevision();
+        this.grailsVersion = catalog.getVersions().get("grails.version");
+    }
+
+    /**
+     * @return The revision of the catalog
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return The Grails version of the catalog
+     */
+    public String getGrailsVersion() {
+        return grailsVersion;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.catalog;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Singleton;
+import org.grails.forge.api.GrailsForgeConfiguration;
+import org.grails.forge.util.VersionCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Replaces the {@link VersionCatalog} with the one found in the configured directory, at startup
+ * and whenever a reload is requested. Generations in progress keep the catalog they started with.
+ *
+ * @since 7.0.0
+ */
+@Singleton
+@Requires(property = VersionCatalogService.PATH)
+public class VersionCatalogService {
+
+    public static final String PATH = GrailsForgeConfiguration.PREFIX + "." + GrailsForgeConfiguration.VersionCatalogConfiguration.PREFIX + ".path";
+    private static final Logger LOG = LoggerFactory.getLogger(VersionCatalogService.class);
+
+    private final Path directory;
+
+    public VersionCatalogService(GrailsForgeConfiguration.VersionCatalogConfiguration configuration) {
+        this.directory = Paths.get(configuration.getPath());
+    }
+
+    /**
+     * Loads the catalog from the configured directory and makes it current.
+     *
+     * @return The new catalog
+     * @throws IOException If the catalog cannot be read
+     */
+    public synchronized VersionCatalog reload() throws IOException {
+        VersionCatalog catalog = VersionCatalog.load(directory, VersionCatalog.current());
+        VersionCatalog.update(catalog);
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Loaded version catalog revision {} from {}", catalog.getRevision(), directory);
+        }
+        return catalog;
+    }
+
+    @EventListener
+    void onStartup(StartupEvent event) {
+        try {
+            reload();
+        } catch (IOException e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error("Error loading the version catalog from " + directory + ": " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -72,6 +72,31 @@ public abstract class AbstractCreateController {
             @Nullable ServletImpl servlet,
             @Nullable JdkVersion javaVersion,
             @Nullable @Header(HttpHeaders.USER_AGENT) String userAgent) {
+        return createProjectGeneratorContext(type, name, features, buildTool, testFramework, gorm, servlet, javaVersion, getOperatingSystem(userAgent));
+    }
+
+    /**
+     * @param type            The application type
+     * @param name            The name of the application
+     * @param features        The features
+     * @param buildTool       The build tool
+     * @param testFramework   The test framework
+     * @param gorm            The GORM
+     * @param servlet         The Servlet
+     * @param javaVersion     The java version
+     * @param operatingSystem The operating system to generate the application for
+     * @return The generator context
+     */
+    public GeneratorContext createProjectGeneratorContext(
+            ApplicationType type,
+            @Pattern(regexp = "[\\w\\d-_\\.]+") String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool buildTool,
+            @Nullable TestFramework testFramework,
+            @Nullable GormImpl gorm,
+            @Nullable ServletImpl servlet,
+            @Nullable JdkVersion javaVersion,
+            OperatingSystem operatingSystem) {
         Project project;
         try {
             project = NameUtils.parse(name);
@@ -81,17 +106,11 @@ public abstract class AbstractCreateController {
 
         GeneratorContext generatorContext;
         try {
-            GormImpl gormImpl = gorm != null ? gorm : GormImpl.DEFAULT_OPTION;
-            ServletImpl servletImpl = servlet != null ? servlet : ServletImpl.DEFAULT_OPTION;
             generatorContext = projectGenerator.createGeneratorContext(
                     type,
                     project,
-                    new Options(testFramework != null ? testFramework.toTestFramework() : org.grails.forge.options.TestFramework.DEFAULT_OPTION,
-                            gormImpl == null ? GormImpl.DEFAULT_OPTION : gormImpl,
-                            servletImpl == null ? ServletImpl.DEFAULT_OPTION : servletImpl,
-                            javaVersion == null ? JdkVersion.DEFAULT_OPTION : javaVersion,
-                            getOperatingSystem(userAgent)),
-                    getOperatingSystem(userAgent),
+                    createOptions(testFramework, gorm, servlet, javaVersion, operatingSystem),
+                    operatingSystem,
                     features != null ? features : Collections.emptyList(),
                     ConsoleOutput.NOOP
             );
@@ -108,6 +127,26 @@ public abstract class AbstractCreateController {
         return generatorContext;
     }
 
+    /**
+     * @param testFramework   The test framework
+     * @param gorm            The GORM
+     * @param servlet         The Servlet
+     * @param javaVersion     The java version
+     * @param operatingSystem The operating system
+     * @return The options with every omitted option set to its default
+     */
+    protected Options createOptions(@Nullable TestFramework testFramework,
+                                    @Nullable GormImpl gorm,
+                                    @Nullable ServletImpl servlet,
+                                    @Nullable JdkVersion javaVersion,
+                                    OperatingSystem operatingSystem) {
+        return new Options(testFramework != null ? testFramework.toTestFramework() : org.grails.forge.options.TestFramework.DEFAULT_OPTION,
+                gorm != null ? gorm : GormImpl.DEFAULT_OPTION,
+                servlet != null ? servlet : ServletImpl.DEFAULT_OPTION,
+                javaVersion != null ? javaVersion : JdkVersion.DEFAULT_OPTION,
+                operatingSystem);
+    }
+
     protected OperatingSystem getOperatingSystem(String userAgent) {
         return UserAgentParser.getOperatingSystem(userAgent);
     }
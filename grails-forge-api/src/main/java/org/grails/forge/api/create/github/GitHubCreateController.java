@@ -21,11 +21,13 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.exceptions.HttpStatusException;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,7 +37,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.grails.forge.api.RequestInfo;
 import org.grails.forge.api.TestFramework;
 import org.grails.forge.application.ApplicationType;
-import org.grails.forge.client.github.v3.GitHubRepository;
 import org.grails.forge.options.BuildTool;
 import org.grails.forge.options.GormImpl;
 import org.grails.forge.options.JdkVersion;
@@ -46,6 +47,7 @@ import org.slf4j.LoggerFactory;
 import javax.validation.constraints.Pattern;
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * GitHub create controller.
@@ -61,15 +63,19 @@ public class GitHubCreateController implements GitHubCreateOperation {
     private static final Logger LOG = LoggerFactory.getLogger(GitHubCreateController.class);
     private final GitHubCreateService gitHubCreateService;
     private final GitHubRedirectService redirectService;
+    private final GitHubCreateJobService jobService;
 
     public GitHubCreateController(GitHubCreateService gitHubCreateService,
-                                  GitHubRedirectService redirectService) {
+                                  GitHubRedirectService redirectService,
+                                  GitHubCreateJobService jobService) {
         this.gitHubCreateService = gitHubCreateService;
         this.redirectService = redirectService;
+        this.jobService = jobService;
     }
 
     /**
-     * Creates an application in GitHub repository, generating a json file as the response.
+     * Creates an application in GitHub repository. The repository is created by a job, whose status
+     * is returned, or passed to the launcher if one is configured.
      *
      * @param type     The application type The application type
      * @param name     The name of the application The name of the application
@@ -79,14 +85,14 @@ public class GitHubCreateController implements GitHubCreateOperation {
      * @param gorm     The GORM (optional, defaults to Hibernate)
      * @param servlet  The Servlet (optional, defaults to Embedded Tomcat)
      * @param state    An unguessable random string. It is used to protect against cross-site request forgery attacks.
-     * @return A json containing the generated application details.
+     * @return A json containing the job creating the application.
      */
     @Override
     @Get(uri = "/github/{type}/{name}{?features,gorm,servlet,build,test,javaVersion,code,state}", produces = MediaType.APPLICATION_JSON)
     @ApiResponses(value = {
             @ApiResponse(
-                    responseCode = "200",
-                    description = "Created GitHub repository containing the generated application. In case " +
+                    responseCode = "202",
+                    description = "The job creating the GitHub repository containing the generated application. In case " +
                             "the configuration contains launcher URI the redirect to launcher is sent.",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON
@@ -99,9 +105,13 @@ public class GitHubCreateController implements GitHubCreateOperation {
             ),
             @ApiResponse(
                     responseCode = "307",
-                    description = "Redirects back to launcher in case of successfully created GitHub repository."
+                    description = "Redirects back to launcher with the job creating the GitHub repository."
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many GitHub repositories are being created."
             )})
-    public HttpResponse<GitHubCreateDTO> createApp(
+    public HttpResponse<GitHubCreateJobDTO> createApp(
             @NonNull ApplicationType type,
             @Pattern(regexp = "[\\w\\d-_\\.]+") String name,
             @Nullable List<String> features,
@@ -119,13 +129,20 @@ public class GitHubCreateController implements GitHubCreateOperation {
             if (StringUtils.isEmpty(code) || StringUtils.isEmpty(state)) {
                 return HttpResponse.temporaryRedirect(redirectService.constructOAuthRedirectUrl(requestInfo));
             } else {
-                GitHubRepository repository = gitHubCreateService.creatApp(
-                        type, name, features, build, test, gorm, servlet, javaVersion, code, state, userAgent);
+                GitHubCreateJobDTO job;
+                try {
+                    job = jobService.submit(() -> gitHubCreateService.creatApp(
+                            type, name, features, build, test, gorm, servlet, javaVersion, code, state, userAgent));
+                } catch (RejectedExecutionException e) {
+                    throw new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Too many repositories are being created, please try again later.");
+                }
+                URI statusUri = URI.create(requestInfo.getServerURL() + "/github/jobs/" + job.getId());
 
                 if (launcherURI == null) {
-                    return HttpResponse.ok(new GitHubCreateDTO(repository.getUrl(), repository.getCloneUrl(), repository.getHtmlUrl()));
+                    return HttpResponse.<GitHubCreateJobDTO>accepted(statusUri).body(job);
                 } else {
-                    return HttpResponse.temporaryRedirect(redirectService.constructGrailsForgeRedirectUrl(repository));
+                    return HttpResponse.temporaryRedirect(redirectService.constructGrailsForgeJobRedirectUrl(job, statusUri));
                 }
             }
         } catch (Exception e) {
@@ -141,6 +158,31 @@ public class GitHubCreateController implements GitHubCreateOperation {
         }
     }
 
+    /**
+     * Reads the status of the creation of a GitHub repository.
+     *
+     * @param id The job id
+     * @return The status of the job, with the repository once it is created
+     */
+    @Override
+    @Get(uri = "/github/jobs/{id}", produces = MediaType.APPLICATION_JSON)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "The status of the job, with the repository once it is created.",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "The job is unknown or finished more than an hour ago."
+            )})
+    public GitHubCreateJobDTO getJob(@NonNull String id) {
+        return jobService.getJob(id)
+                .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "No job " + id));
+    }
+
     /**
      * Endpoint handles GitHub OAuth authorisation errors.
      *
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.create.github;
+
+/**
+ * A failure to create a GitHub repository, with a message that can be shown to the user.
+ * The cause is only logged.
+ *
+ * @since 7.0.0
+ */
+@SuppressWarnings("serial")
+final class GitHubCreateException extends RuntimeException {
+
+    GitHubCreateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.create.github;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.Nullable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * The status of the creation of an application in a GitHub repository.
+ *
+ * @since 7.0.0
+ */
+@Introspected
+@Schema(name = "GitHubCreateJob", description = "Status of the creation of a GitHub repository with a Grails application.")
+public class GitHubCreateJobDTO {
+
+    /**
+     * The states of a job.
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final Status status;
+    private final GitHubCreateDTO repository;
+    private final String error;
+
+    public GitHubCreateJobDTO(String id, Status status, @Nullable GitHubCreateDTO repository, @Nullable String error) {
+        this.id = id;
+        this.status = status;
+        this.repository = repository;
+        this.error = error;
+    }
+
+    @Schema(description = "Job id")
+    public String getId() {
+        return id;
+    }
+
+    @Schema(description = "Job status")
+    public Status getStatus() {
+        return status;
+    }
+
+    @Nullable
+    @Schema(description = "The created repository, once the job is completed")
+    public GitHubCreateDTO getRepository() {
+        return repository;
+    }
+
+    @Nullable
+    @Schema(description = "The error, if the job failed")
+    public String getError() {
+        return error;
+    }
+}
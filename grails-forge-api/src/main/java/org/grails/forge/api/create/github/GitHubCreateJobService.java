@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.create.github;
+
+import io.micronaut.core.annotation.NonNull;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.grails.forge.api.GrailsForgeConfiguration;
+import org.grails.forge.client.github.v3.GitHubRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the creation of GitHub repositories as jobs on a bounded pool of workers, so requests
+ * do not wait for the OAuth token exchange, the GitHub API calls and the push. Jobs that do not
+ * fit in the queue are rejected, and finished jobs are kept for an hour for their status to be read.
+ * Failed jobs report the messages of {@link GitHubCreateService} or of an invalid request, any other
+ * failure is only logged.
+ *
+ * @since 7.0.0
+ */
+@Singleton
+public class GitHubCreateJobService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubCreateJobService.class);
+    private static final long FINISHED_JOB_TTL = TimeUnit.HOURS.toMillis(1);
+    private static final int MAX_JOBS = 1024;
+    private static final String UNEXPECTED_ERROR = "Failed to create the GitHub repository.";
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    public GitHubCreateJobService(GrailsForgeConfiguration.GitHubConfiguration gitHubConfiguration) {
+        int workers = Math.max(1, gitHubConfiguration.getWorkers());
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, gitHubConfiguration.getQueueSize())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "github-create-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queues the creation of a repository.
+     *
+     * @param task Creates the repository
+     * @return The status of the queued job
+     * @throws RejectedExecutionException If too many jobs are queued
+     */
+    @NonNull
+    public GitHubCreateJobDTO submit(@NonNull Callable<GitHubRepository> task) {
+        removeFinishedJobs();
+        if (jobs.size() >= MAX_JOBS) {
+            throw new RejectedExecutionException("Too many jobs");
+        }
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> job.run(task));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+        return job.toDTO();
+    }
+
+    /**
+     * @param id The job id
+     * @return The status of the job, or empty if it is unknown or expired
+     */
+    @NonNull
+    public Optional<GitHubCreateJobDTO> getJob(@NonNull String id) {
+        return Optional.ofNullable(jobs.get(id)).map(Job::toDTO);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void removeFinishedJobs() {
+        long expired = System.currentTimeMillis() - FINISHED_JOB_TTL;
+        jobs.values().removeIf(job -> job.finishedAt != 0 && job.finishedAt < expired);
+    }
+
+    private static final class Job {
+
+        private final String id;
+        private volatile GitHubCreateJobDTO.Status status = GitHubCreateJobDTO.Status.QUEUED;
+        private volatile GitHubCreateDTO repository;
+        private volatile String error;
+        private volatile long finishedAt;
+
+        private Job(String id) {
+            this.id = id;
+        }
+
+        private void run(Callable<GitHubRepository> task) {
+            status = GitHubCreateJobDTO.Status.RUNNING;
+            try {
+                GitHubRepository created = task.call();
+                repository = new GitHubCreateDTO(created.getUrl(), created.getCloneUrl(), created.getHtmlUrl());
+                status = GitHubCreateJobDTO.Status.COMPLETED;
+            } catch (GitHubCreateException e) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("GitHub create job " + id + " failed: " + e.getMessage(), e);
+                }
+                error = e.getMessage();
+                status = GitHubCreateJobDTO.Status.FAILED;
+            } catch (Exception e) {
+                // the message of anything else comes from the OAuth, GitHub or Git clients and is not shown
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("GitHub create job " + id + " failed: " + e.getMessage(), e);
+                }
+                error = UNEXPECTED_ERROR;
+                status = GitHubCreateJobDTO.Status.FAILED;
+            } finally {
+                finishedAt = System.currentTimeMillis();
+            }
+        }
+
+        private GitHubCreateJobDTO toDTO() {
+            // the status is written last, so a finished job is read with its result
+            GitHubCreateJobDTO.Status current = status;
+            return new GitHubCreateJobDTO(id, current, repository, error);
+        }
+    }
+}
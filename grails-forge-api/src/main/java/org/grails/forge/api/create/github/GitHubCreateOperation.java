@@ -54,9 +54,9 @@ public interface GitHubCreateOperation {
      * @param state       An unguessable random string. It is used to protect against cross-site request forgery attacks.
      * @param userAgent   The browser user-agent
      * @param requestInfo The request info
-     * @return An information about newly created GitHub repository
+     * @return The job creating the GitHub repository
      */
-    HttpResponse<GitHubCreateDTO> createApp(
+    HttpResponse<GitHubCreateJobDTO> createApp(
             @NonNull ApplicationType type,
             @Pattern(regexp = "[\\w\\d-_\\.]+") String name,
             @Nullable List<String> features,
@@ -70,4 +70,12 @@ public interface GitHubCreateOperation {
             @Nullable @Header(HttpHeaders.USER_AGENT) String userAgent,
             @NonNull RequestInfo requestInfo
     );
+
+    /**
+     * Reads the status of the creation of a GitHub repository.
+     *
+     * @param id The job id
+     * @return The status of the job, with the repository once it is created
+     */
+    GitHubCreateJobDTO getJob(@NonNull String id);
 }
@@ -20,6 +20,7 @@ import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.http.exceptions.HttpStatusException;
 import jakarta.inject.Singleton;
 import org.grails.forge.api.GrailsForgeConfiguration;
 import org.grails.forge.api.TestFramework;
@@ -101,8 +102,14 @@ public class GitHubCreateService extends AbstractCreateController {
 
         GitHubUser gitHubUser = getGitHubUser(authToken);
 
-        GeneratorContext generatorContext = createProjectGeneratorContext(
-                type, name, features, build, test, gorm, servlet, javaVersion, userAgent);
+        GeneratorContext generatorContext;
+        try {
+            generatorContext = createProjectGeneratorContext(
+                    type, name, features, build, test, gorm, servlet, javaVersion, userAgent);
+        } catch (HttpStatusException e) {
+            // an invalid name or feature selection, reported the same way as by the other create endpoints
+            throw new GitHubCreateException(e.getMessage());
+        }
 
         String repoName = generatorContext.getProject().getName();
         String repoDescription = String.format("Grails %s Application", generatorContext.getProject().getNaturalName());
@@ -127,7 +134,7 @@ public class GitHubCreateService extends AbstractCreateController {
             }
         } catch (Exception e) {
             LOG.error(e.getMessage(), e);
-            throw new RuntimeException("Failed to push to created repository: " + githubRepository.getUrl());
+            throw new GitHubCreateException("Failed to push to created repository: " + githubRepository.getUrl());
         } finally {
             try {
                 if (repoPath != null) {
@@ -143,7 +150,7 @@ public class GitHubCreateService extends AbstractCreateController {
                                                     GitHubUser gitHubUser) {
         try {
             if (gitHubApiClient.getRepository(gitHubConfiguration.getUserAgent(), authToken, gitHubUser.getLogin(), repoName) != null) {
-                throw new IllegalArgumentException("Repository " + repoName + " already exists.");
+                throw new GitHubCreateException("Repository " + repoName + " already exists.");
             }
 
             GitHubRepository githubRepository = gitHubApiClient.createRepository(gitHubConfiguration.getUserAgent(),
@@ -156,7 +163,7 @@ public class GitHubCreateService extends AbstractCreateController {
             return githubRepository;
         } catch (HttpClientResponseException e) {
             LOG.error(e.getMessage(), e);
-            throw new RuntimeException("Failed to create repository " + repoName);
+            throw new GitHubCreateException("Failed to create repository " + repoName);
         }
     }
 
@@ -166,7 +173,7 @@ public class GitHubCreateService extends AbstractCreateController {
                     gitHubConfiguration.getClientSecret(), code, state);
         } catch (HttpClientResponseException e) {
             LOG.error(e.getMessage(), e);
-            throw new RuntimeException("Failed to get user access token.");
+            throw new GitHubCreateException("Failed to get user access token.");
         }
     }
 
@@ -179,7 +186,7 @@ public class GitHubCreateService extends AbstractCreateController {
             return gitHubUser;
         } catch (HttpClientResponseException e) {
             LOG.error(e.getMessage(), e);
-            throw new RuntimeException("Failed to get user.");
+            throw new GitHubCreateException("Failed to get user.");
         }
     }
 
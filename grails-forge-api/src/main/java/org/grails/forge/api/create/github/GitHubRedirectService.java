@@ -110,6 +110,34 @@ public class GitHubRedirectService {
         }
     }
 
+    /**
+     * Creates redirect URI back to Grails Application Forge with the job creating the github repository in query parameters.
+     *
+     * @param job The job
+     * @param statusUri The URI of the job status
+     * @return URI or null if the Grails Application Forge URL is missing
+     */
+    protected URI constructGrailsForgeJobRedirectUrl(GitHubCreateJobDTO job, URI statusUri) {
+        URI redirectUri = getLauncherURI();
+        if (redirectUri == null) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Can't construct redirect back to Grails Application Forge as configuration is missing redirect uri.");
+            }
+            return null;
+        }
+
+        try {
+            return UriBuilder.of(redirectUri)
+                    .queryParam("job", job.getId())
+                    .queryParam("jobUrl", statusUri.toString())
+                    .build();
+        } catch (Exception e) {
+            String msg = "Failed to construct job redirect to URI back to Grails Application Forge: " + e.getMessage();
+            LOG.error(msg, e);
+            throw new RuntimeException(msg);
+        }
+    }
+
     /**
      * Creates redirect URI back to Grails app forge with error message.
      *
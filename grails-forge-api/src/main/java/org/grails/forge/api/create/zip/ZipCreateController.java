@@ -15,17 +15,22 @@
  */
 package org.grails.forge.api.create.zip;
 
+import io.micronaut.context.BeanLocator;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.io.Writable;
 import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Header;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.http.uri.UriBuilder;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,13 +38,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.grails.forge.api.TestFramework;
 import org.grails.forge.api.create.AbstractCreateController;
 import org.grails.forge.application.ApplicationType;
+import org.grails.forge.application.FeatureResolution;
+import org.grails.forge.application.FeatureResolver;
+import org.grails.forge.application.OperatingSystem;
 import org.grails.forge.application.Project;
 import org.grails.forge.application.generator.GeneratorContext;
 import org.grails.forge.application.generator.ProjectGenerator;
+import org.grails.forge.feature.AvailableFeatures;
+import org.grails.forge.feature.Feature;
+import org.grails.forge.io.ZipCompression;
 import org.grails.forge.io.ZipOutputHandler;
 import org.grails.forge.options.BuildTool;
 import org.grails.forge.options.GormImpl;
 import org.grails.forge.options.JdkVersion;
+import org.grails.forge.options.Options;
 import org.grails.forge.options.ServletImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,8 +62,14 @@ import javax.validation.constraints.Pattern;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.net.URI;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * Implements the {@link ZipCreateOperation} interface for applications.
@@ -64,16 +82,28 @@ import java.util.List;
 public class ZipCreateController extends AbstractCreateController implements ZipCreateOperation {
 
     public static final String MEDIA_TYPE_APPLICATION_ZIP = "application/zip";
+    public static final String CANONICAL_CACHE_CONTROL = "public, max-age=86400";
+    public static final String DETECTED_REDIRECT_CACHE_CONTROL = "private, max-age=86400";
     private static final Logger LOG = LoggerFactory.getLogger(ZipCreateController.class);
 
+    private final FeatureResolver featureResolver;
+    private final BeanLocator beanLocator;
+
     /**
      * Default constructor.
      *
      * @param projectGenerator The project generator
      * @param eventPublisher   The event publisher
+     * @param featureResolver  The feature resolver
+     * @param beanLocator      The bean locator
      */
-    public ZipCreateController(ProjectGenerator projectGenerator, ApplicationEventPublisher eventPublisher) {
+    public ZipCreateController(ProjectGenerator projectGenerator,
+                               ApplicationEventPublisher eventPublisher,
+                               FeatureResolver featureResolver,
+                               BeanLocator beanLocator) {
         super(projectGenerator, eventPublisher);
+        this.featureResolver = featureResolver;
+        this.beanLocator = beanLocator;
     }
 
     /**
@@ -87,10 +117,13 @@ public class ZipCreateController extends AbstractCreateController implements Zip
      * @param gorm        The GORM
      * @param servlet     The Servlet
      * @param javaVersion The java version
+     * @param compression The compression of text entries
+     * @param os          The operating system, detected from the user agent if omitted
+     * @param userAgent   The browser user-agent
      * @return A ZIP file containing the generated application.
      */
     @Override
-    @Get(uri = "/create/{type}/{name}{?features,gorm,build,test,javaVersion}", produces = MEDIA_TYPE_APPLICATION_ZIP)
+    @Get(uri = "/create/{type}/{name}{?features,gorm,build,test,javaVersion,compression,os}", produces = MEDIA_TYPE_APPLICATION_ZIP)
     @ApiResponse(
             description = "A ZIP file containing the generated application.",
             content = @Content(
@@ -106,8 +139,10 @@ public class ZipCreateController extends AbstractCreateController implements Zip
             @Nullable GormImpl gorm,
             @Nullable ServletImpl servlet,
             @Nullable JdkVersion javaVersion,
+            @Nullable ZipCompression compression,
+            @Nullable OperatingSystem os,
             @Nullable @Header(HttpHeaders.USER_AGENT) String userAgent) {
-        return generateAppIntoZipFile(type, name, features, build, test, gorm, servlet, javaVersion, userAgent);
+        return generateCanonical(type, false, name, features, build, test, gorm, servlet, javaVersion, compression, os, userAgent);
     }
 
     /**
@@ -121,10 +156,12 @@ public class ZipCreateController extends AbstractCreateController implements Zip
      * @param gorm        The GORM
      * @param servlet     The Servlet
      * @param javaVersion The java version
+     * @param compression The compression of text entries
+     * @param os          The operating system, detected from the user agent if omitted
      * @param userAgent   The browser user-agent
      * @return A Zip file containing the application
      */
-    @Get(uri = "/{name}.zip{?type,features,gorm,servlet,build,test}", produces = MEDIA_TYPE_APPLICATION_ZIP)
+    @Get(uri = "/{name}.zip{?type,features,gorm,servlet,build,test,javaVersion,compression,os}", produces = MEDIA_TYPE_APPLICATION_ZIP)
     @ApiResponse(
             description = "A ZIP file containing the generated application.",
             content = @Content(
@@ -140,11 +177,13 @@ public class ZipCreateController extends AbstractCreateController implements Zip
             @Nullable GormImpl gorm,
             @Nullable ServletImpl servlet,
             @Nullable JdkVersion javaVersion,
+            @Nullable ZipCompression compression,
+            @Nullable OperatingSystem os,
             @Nullable @Header("User-Agent") String userAgent) {
-        return generateAppIntoZipFile(type, name, features, build, test, gorm, servlet, javaVersion, userAgent);
+        return generateCanonical(type, true, name, features, build, test, gorm, servlet, javaVersion, compression, os, userAgent);
     }
 
-    public HttpResponse<Writable> generateAppIntoZipFile(
+    public MutableHttpResponse<Writable> generateAppIntoZipFile(
             @NotNull ApplicationType type,
             @NotNull String name,
             @Nullable List<String> features,
@@ -153,9 +192,24 @@ public class ZipCreateController extends AbstractCreateController implements Zip
             @Nullable GormImpl gorm,
             @Nullable ServletImpl servlet,
             @Nullable JdkVersion javaVersion,
+            @Nullable ZipCompression compression,
             @Nullable String userAgent) {
+        return generateAppIntoZipFile(type, name, features, buildTool, testFramework, gorm, servlet, javaVersion, compression, getOperatingSystem(userAgent));
+    }
 
-        GeneratorContext generatorContext = createProjectGeneratorContext(type, name, features, buildTool, testFramework, gorm, servlet, javaVersion, userAgent);
+    public MutableHttpResponse<Writable> generateAppIntoZipFile(
+            @NotNull ApplicationType type,
+            @NotNull String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool buildTool,
+            @Nullable TestFramework testFramework,
+            @Nullable GormImpl gorm,
+            @Nullable ServletImpl servlet,
+            @Nullable JdkVersion javaVersion,
+            @Nullable ZipCompression compression,
+            @NotNull OperatingSystem operatingSystem) {
+
+        GeneratorContext generatorContext = createProjectGeneratorContext(type, name, features, buildTool, testFramework, gorm, servlet, javaVersion, operatingSystem);
         MutableHttpResponse<Writable> response = HttpResponse.created(new Writable() {
             @Override
             public void writeTo(OutputStream outputStream, @Nullable Charset charset) throws IOException {
@@ -163,7 +217,7 @@ public class ZipCreateController extends AbstractCreateController implements Zip
                     final Project project = generatorContext.getProject();
                     projectGenerator.generate(type,
                             project,
-                            new ZipOutputHandler(project.getName(), outputStream),
+                            new ZipOutputHandler(project.getName(), outputStream, compression != null ? compression : ZipCompression.DEFAULT_OPTION),
                             generatorContext);
 
                     outputStream.flush();
@@ -181,6 +235,93 @@ public class ZipCreateController extends AbstractCreateController implements Zip
         return response.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + getFilename(generatorContext.getProject()));
     }
 
+    /**
+     * Redirects requests to their canonical URL and marks the responses of canonical URLs as long-lived
+     * cacheable, so every spelling of the same project shares one cache entry. The canonical URL names
+     * the operating system, so its response does not depend on the user agent; only a redirect that
+     * detected the operating system from the user agent is kept out of shared caches.
+     */
+    private MutableHttpResponse<Writable> generateCanonical(ApplicationType type,
+                                                           boolean typeInQuery,
+                                                           String name,
+                                                           @Nullable List<String> features,
+                                                           @Nullable BuildTool build,
+                                                           @Nullable TestFramework test,
+                                                           @Nullable GormImpl gorm,
+                                                           @Nullable ServletImpl servlet,
+                                                           @Nullable JdkVersion javaVersion,
+                                                           @Nullable ZipCompression compression,
+                                                           @Nullable OperatingSystem os,
+                                                           @Nullable String userAgent) {
+        OperatingSystem operatingSystem = os != null ? os : getOperatingSystem(userAgent);
+        if (operatingSystem == null) {
+            // an unknown user agent generates the same files as the default operating system
+            operatingSystem = OperatingSystem.DEFAULT;
+        }
+        Options options = createOptions(test, gorm, servlet, javaVersion, operatingSystem);
+        Optional<HttpRequest<Object>> request = ServerRequestContext.currentRequest();
+        Optional<List<String>> canonicalFeatures = request.flatMap(r -> canonicalFeatures(type, options, features));
+        // only redirect if the canonical URL canonicalizes to itself, so a redirect can never loop
+        if (canonicalFeatures.isPresent() &&
+                canonicalFeatures.equals(canonicalFeatures(type, options, canonicalFeatures.get()))) {
+            UriBuilder canonical = UriBuilder.of(request.get().getPath());
+            if (typeInQuery) {
+                canonical.queryParam("type", type.getName());
+            }
+            if (!canonicalFeatures.get().isEmpty()) {
+                canonical.queryParam("features", canonicalFeatures.get().toArray());
+            }
+            URI canonicalUri = canonical
+                    .queryParam("build", (build != null ? build : BuildTool.DEFAULT_OPTION).name())
+                    .queryParam("test", options.getTestFramework().name())
+                    .queryParam("gorm", options.getGormImpl().name())
+                    .queryParam("servlet", options.getServletImpl().name())
+                    .queryParam("javaVersion", options.getJavaVersion().name())
+                    .queryParam("compression", (compression != null ? compression : ZipCompression.DEFAULT_OPTION).name())
+                    .queryParam("os", operatingSystem.name())
+                    .build();
+            if (!isSameUri(canonicalUri, request.get().getUri())) {
+                return HttpResponse.<Writable>redirect(canonicalUri)
+                        .header(HttpHeaders.CACHE_CONTROL, os != null ? CANONICAL_CACHE_CONTROL : DETECTED_REDIRECT_CACHE_CONTROL);
+            }
+            return generateAppIntoZipFile(type, name, features, build, test, gorm, servlet, javaVersion, compression, operatingSystem)
+                    .header(HttpHeaders.CACHE_CONTROL, CANONICAL_CACHE_CONTROL);
+        }
+        return generateAppIntoZipFile(type, name, features, build, test, gorm, servlet, javaVersion, compression, operatingSystem);
+    }
+
+    /**
+     * @return The sorted names of the selected and visible default features, or empty if the selection
+     * cannot be resolved and generating the application should report the error instead
+     */
+    private Optional<List<String>> canonicalFeatures(ApplicationType type, Options options, @Nullable List<String> features) {
+        FeatureResolution resolution;
+        try {
+            resolution = featureResolver.resolve(
+                    beanLocator.getBean(AvailableFeatures.class, Qualifiers.byName(type.getName())),
+                    type,
+                    options,
+                    features != null ? features : Collections.emptyList());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        SortedSet<String> names = new TreeSet<>();
+        for (Feature feature : resolution.getSelectedFeatures()) {
+            names.add(feature.getName());
+        }
+        for (Feature feature : resolution.getDefaultFeatures()) {
+            if (feature.isVisible()) {
+                names.add(feature.getName());
+            }
+        }
+        return Optional.of(new ArrayList<>(names));
+    }
+
+    private static boolean isSameUri(URI canonical, URI requested) {
+        return canonical.getRawPath().equals(requested.getRawPath()) &&
+                canonical.getRawQuery().equals(requested.getRawQuery());
+    }
+
     /**
      * @param project The project
      * @return The file name to return.
@@ -22,6 +22,8 @@ import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.Header;
 import org.grails.forge.api.TestFramework;
 import org.grails.forge.application.ApplicationType;
+import org.grails.forge.application.OperatingSystem;
+import org.grails.forge.io.ZipCompression;
 import org.grails.forge.options.BuildTool;
 import org.grails.forge.options.GormImpl;
 import org.grails.forge.options.ServletImpl;
@@ -49,6 +51,8 @@ public interface ZipCreateOperation {
      * @param gorm        The GORM
      * @param servlet     The Servlet
      * @param javaVersion The java version
+     * @param compression The compression of text entries
+     * @param os          The operating system, detected from the user agent if omitted
      * @param userAgent   The browser user-agent
      * @return An HTTP response that emits a writable
      */
@@ -61,6 +65,8 @@ public interface ZipCreateOperation {
             @Nullable GormImpl gorm,
             @Nullable ServletImpl servlet,
             @Nullable JdkVersion javaVersion,
+            @Nullable ZipCompression compression,
+            @Nullable OperatingSystem os,
             @Nullable @Header(HttpHeaders.USER_AGENT) String userAgent
     );
 }
@@ -29,6 +29,7 @@ import org.grails.forge.application.Project;
 import org.grails.forge.application.generator.GeneratorContext;
 import org.grails.forge.application.generator.ProjectGenerator;
 import org.grails.forge.diff.FeatureDiffer;
+import org.grails.forge.diff.FileDiff;
 import org.grails.forge.io.ConsoleOutput;
 import org.grails.forge.options.*;
 import org.grails.forge.util.NameUtils;
@@ -37,11 +38,14 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -181,45 +185,33 @@ public class DiffController implements DiffOperations {
     }
 
     private Publisher<String> diffFlowable(ProjectGenerator projectGenerator, GeneratorContext generatorContext) {
-        return Flux.create(emitter -> {
+        // generating the projects blocks, so it does not run on the subscribing thread
+        Flux<String> diff = Flux.defer(() -> {
+            List<FileDiff> files;
             try {
-                // empty string so there is at least some content
-                // if there is no difference
-                emitter.next("");
-                featureDiffer.produceDiff(
-                        projectGenerator,
-                        generatorContext,
-                        new ConsoleOutput() {
-                            @Override
-                            public void out(String message) {
-                                emitter.next(message + LINE_SEPARATOR);
-                            }
-
-                            @Override
-                            public void err(String message) {
-                                // will never be called
-                            }
-
-                            @Override
-                            public void warning(String message) {
-                                // will never be called
-                            }
-
-                            @Override
-                            public boolean showStacktrace() {
-                                return false;
-                            }
-
-                            @Override
-                            public boolean verbose() {
-                                return false;
-                            }
-                        }
-                );
-                emitter.complete();
+                files = featureDiffer.diffFiles(projectGenerator, generatorContext);
             } catch (Exception e) {
-                emitter.error(new HttpStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not produce diff: " + e.getMessage()));
+                return Flux.error(new HttpStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not produce diff: " + e.getMessage()));
             }
-        });
+            // files are diffed in parallel and emitted in order, as the subscriber requests them
+            return Flux.fromIterable(files)
+                    .flatMapSequential(file -> Mono.fromCallable(file::getDeltas).subscribeOn(Schedulers.parallel()))
+                    .concatMapIterable(DiffController::toLines);
+        }).subscribeOn(Schedulers.boundedElastic());
+        // empty string so there is at least some content
+        // if there is no difference
+        return diff.startWith("");
+    }
+
+    private static List<String> toLines(List<String> deltas) {
+        if (deltas.isEmpty()) {
+            return deltas;
+        }
+        List<String> lines = new ArrayList<>(deltas.size() + 1);
+        for (String delta : deltas) {
+            lines.add(delta + LINE_SEPARATOR);
+        }
+        lines.add("\n" + LINE_SEPARATOR);
+        return lines;
     }
 }
@@ -17,16 +17,22 @@ package org.grails.forge.api.preview;
 
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.http.uri.UriBuilder;
+import org.grails.forge.api.LinkDTO;
 import org.grails.forge.api.Relationship;
 import org.grails.forge.api.RequestInfo;
 import org.grails.forge.api.TestFramework;
 import org.grails.forge.api.create.AbstractCreateController;
 import org.grails.forge.application.ApplicationType;
+import org.grails.forge.application.OperatingSystem;
 import org.grails.forge.application.Project;
 import org.grails.forge.application.generator.ProjectGenerator;
 import org.grails.forge.io.ConsoleOutput;
@@ -38,9 +44,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * Previews an application contents.
@@ -51,16 +59,21 @@ import java.util.Map;
 @Controller("/preview")
 public class PreviewController extends AbstractCreateController implements PreviewOperations {
 
+    public static final String FILE_CACHE_CONTROL = "public, max-age=86400, immutable";
     private static final Logger LOG = LoggerFactory.getLogger(AbstractCreateController.class);
 
+    private final PreviewService previewService;
+
     /**
      * Default constructor.
      *
      * @param projectGenerator The project generator
      * @param eventPublisher The event publisher
+     * @param previewService The preview service
      */
-    public PreviewController(ProjectGenerator projectGenerator, ApplicationEventPublisher eventPublisher) {
+    public PreviewController(ProjectGenerator projectGenerator, ApplicationEventPublisher eventPublisher, PreviewService previewService) {
         super(projectGenerator, eventPublisher);
+        this.previewService = previewService;
     }
 
     /**
@@ -91,12 +104,7 @@ public class PreviewController extends AbstractCreateController implements Previ
             MapOutputHandler outputHandler = new MapOutputHandler();
             projectGenerator.generate(type,
                     project,
-                    new Options(
-                            test != null ? test.toTestFramework() : null,
-                            gorm == null ? GormImpl.DEFAULT_OPTION : gorm,
-                            servlet == null ? ServletImpl.DEFAULT_OPTION : servlet,
-                            javaVersion == null ? JdkVersion.DEFAULT_OPTION : javaVersion,
-                            getOperatingSystem(requestInfo.getUserAgent())),
+                    previewOptions(test, gorm, servlet, javaVersion, getOperatingSystem(requestInfo.getUserAgent())),
                     getOperatingSystem(requestInfo.getUserAgent()),
                     features == null ? Collections.emptyList() : features,
                     outputHandler,
@@ -114,4 +122,163 @@ public class PreviewController extends AbstractCreateController implements Previ
         }
     }
 
+    /**
+     * Lists the files of a generated application, whose contents are fetched one at a time.
+     * @param type The application type
+     * @param name The name of the application
+     * @param features The chosen features
+     * @param build The build type (optional, defaults to Gradle)
+     * @param test The test framework (optional, defaults to JUnit)
+     * @param gorm The GORM (optional, defaults to Hibernate)
+     * @param servlet The Servlet (optional, defaults to Embedded Tomcat)
+     * @param javaVersion The java version
+     * @param os The operating system, detected from the user agent if omitted
+     * @param requestInfo The request info
+     * @return The paths, sizes and hashes of the application files.
+     */
+    @Get(uri = "/{type}/{name}/manifest{?features,gorm,servlet,build,test,javaVersion,os}", produces = MediaType.APPLICATION_JSON)
+    @Override
+    public PreviewManifestDTO previewManifest(
+            ApplicationType type,
+            String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool build,
+            @Nullable TestFramework test,
+            @Nullable GormImpl gorm,
+            @Nullable ServletImpl servlet,
+            @Nullable JdkVersion javaVersion,
+            @Nullable OperatingSystem os,
+            @Parameter(hidden = true) RequestInfo requestInfo) throws IOException {
+        try {
+            NameUtils.parse(name);
+            OperatingSystem operatingSystem = previewOperatingSystem(os, requestInfo.getUserAgent());
+            Options options = previewOptions(test, gorm, servlet, javaVersion, operatingSystem);
+            PreviewService.Preview preview = previewService.preview(type,
+                    name,
+                    options,
+                    operatingSystem,
+                    features == null ? Collections.emptyList() : features);
+            String spec = preview.getId();
+            List<PreviewFileDTO> fileDTOs = new ArrayList<>(preview.getFiles().size());
+            preview.getFiles().forEach((path, file) -> {
+                String etag = file.getBody().getEtag();
+                fileDTOs.add(new PreviewFileDTO(path,
+                        file.getBody().getBytes().length,
+                        etag.substring(1, etag.length() - 1),
+                        file.isBinary()));
+            });
+            PreviewManifestDTO manifestDTO = new PreviewManifestDTO(spec, fileDTOs);
+            manifestDTO.addLink(Relationship.CREATE, requestInfo.link(Relationship.CREATE, type));
+            manifestDTO.addLink(Relationship.PREVIEW, new LinkDTO(filesUri(requestInfo, type, name, spec, features, test, options, operatingSystem) + "{&path}", true));
+            manifestDTO.addLink(Relationship.SELF, requestInfo.self());
+            return manifestDTO;
+        } catch (IllegalArgumentException e) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            LOG.error("Error generating application: " + e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fetches the contents of one file of a preview listed by {@link #previewManifest}. The preview
+     * link of the manifest carries every input of the preview, so the file can be generated again
+     * by any instance that has the same version catalog.
+     * @param type The application type
+     * @param name The name of the application
+     * @param spec The hash identifying the preview
+     * @param path The path of the file
+     * @param features The chosen features
+     * @param test The test framework
+     * @param gorm The GORM
+     * @param servlet The Servlet
+     * @param javaVersion The java version
+     * @param os The operating system, detected from the user agent if omitted
+     * @param request The request
+     * @return The contents of the file, or 404 if the preview or the file is unknown, or the preview
+     * was generated for another type or name.
+     */
+    @Get(uri = "/{type}/{name}/files/{spec}{?features,gorm,servlet,test,javaVersion,os,path}", produces = {MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM})
+    @Override
+    public MutableHttpResponse<?> previewFile(
+            ApplicationType type,
+            String name,
+            String spec,
+            String path,
+            @Nullable List<String> features,
+            @Nullable TestFramework test,
+            @Nullable GormImpl gorm,
+            @Nullable ServletImpl servlet,
+            @Nullable JdkVersion javaVersion,
+            @Nullable OperatingSystem os,
+            HttpRequest<?> request) throws IOException {
+        Map<String, PreviewService.PreviewFile> files;
+        try {
+            OperatingSystem operatingSystem = previewOperatingSystem(os, request.getHeaders().get(HttpHeaders.USER_AGENT));
+            files = previewService.getFiles(type,
+                    name,
+                    spec,
+                    previewOptions(test, gorm, servlet, javaVersion, operatingSystem),
+                    operatingSystem,
+                    features == null ? Collections.emptyList() : features).orElse(Collections.emptyMap());
+        } catch (IllegalArgumentException e) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            LOG.error("Error generating application: " + e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+        PreviewService.PreviewFile file = files.get(path);
+        if (file == null) {
+            throw new HttpStatusException(HttpStatus.NOT_FOUND, "No file " + path + " in preview " + spec);
+        }
+        // the spec hash covers every input of the generation, so the contents never change
+        return file.getBody().respond(request, FILE_CACHE_CONTROL);
+    }
+
+    private Options previewOptions(@Nullable TestFramework test,
+                                   @Nullable GormImpl gorm,
+                                   @Nullable ServletImpl servlet,
+                                   @Nullable JdkVersion javaVersion,
+                                   @Nullable OperatingSystem operatingSystem) {
+        return new Options(
+                test != null ? test.toTestFramework() : null,
+                gorm == null ? GormImpl.DEFAULT_OPTION : gorm,
+                servlet == null ? ServletImpl.DEFAULT_OPTION : servlet,
+                javaVersion == null ? JdkVersion.DEFAULT_OPTION : javaVersion,
+                operatingSystem);
+    }
+
+    private OperatingSystem previewOperatingSystem(@Nullable OperatingSystem os, @Nullable String userAgent) {
+        OperatingSystem operatingSystem = os != null ? os : getOperatingSystem(userAgent);
+        // an unknown user agent generates the same files as the default operating system
+        return operatingSystem != null ? operatingSystem : OperatingSystem.DEFAULT;
+    }
+
+    private static String filesUri(RequestInfo requestInfo,
+                                   ApplicationType type,
+                                   String name,
+                                   String spec,
+                                   @Nullable List<String> features,
+                                   @Nullable TestFramework test,
+                                   Options options,
+                                   OperatingSystem operatingSystem) {
+        UriBuilder uri = UriBuilder.of(requestInfo.getServerURL())
+                .path("preview")
+                .path(type.getName())
+                .path(name)
+                .path("files")
+                .path(spec);
+        if (features != null && !features.isEmpty()) {
+            uri.queryParam("features", new TreeSet<>(features).toArray());
+        }
+        if (test != null) {
+            uri.queryParam("test", test.name());
+        }
+        return uri.queryParam("gorm", options.getGormImpl().name())
+                .queryParam("servlet", options.getServletImpl().name())
+                .queryParam("javaVersion", options.getJavaVersion().name())
+                .queryParam("os", operatingSystem.name())
+                .build()
+                .toString();
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.preview;
+
+import io.micronaut.core.annotation.Introspected;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A file of a preview, without its contents.
+ *
+ * @since 7.0.0
+ */
+@Introspected
+@Schema(name = "PreviewFile", description = "A file of the generated ZIP")
+public class PreviewFileDTO {
+
+    private String path;
+    private long size;
+    private String hash;
+    private boolean binary;
+
+    /**
+     * Constructor.
+     */
+    public PreviewFileDTO() {
+    }
+
+    /**
+     * @param path   The path
+     * @param size   The size in bytes
+     * @param hash   The hash of the contents
+     * @param binary Whether the file is binary
+     */
+    public PreviewFileDTO(String path, long size, String hash, boolean binary) {
+        this.path = path;
+        this.size = size;
+        this.hash = hash;
+        this.binary = binary;
+    }
+
+    /**
+     * @return The path
+     */
+    @Schema(description = "The path within the generated ZIP")
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @param path The path
+     */
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * @return The size in bytes
+     */
+    @Schema(description = "The size in bytes")
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @param size The size in bytes
+     */
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    /**
+     * The entity tag of the file as sent without a content encoding. Responses sent gzip encoded
+     * are tagged with the hash followed by {@code -gzip}, and either tag is accepted in
+     * {@code If-None-Match}.
+     *
+     * @return The hash of the contents
+     */
+    @Schema(description = "The hash of the contents, the entity tag of the file without a content encoding. " +
+            "Gzip encoded responses are tagged with the hash followed by -gzip, either tag is accepted in If-None-Match")
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * @param hash The hash of the contents
+     */
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    /**
+     * @return Whether the file is binary
+     */
+    @Schema(description = "Whether the file is binary")
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * @param binary Whether the file is binary
+     */
+    public void setBinary(boolean binary) {
+        this.binary = binary;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.preview;
+
+import io.micronaut.core.annotation.Introspected;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.grails.forge.api.Linkable;
+
+import java.util.List;
+
+/**
+ * The files of a preview, whose contents are fetched one at a time.
+ *
+ * @since 7.0.0
+ */
+@Introspected
+@Schema(name = "PreviewManifest", description = "Lists the files of the generated ZIP")
+public class PreviewManifestDTO extends Linkable {
+
+    private String spec;
+    private List<PreviewFileDTO> files;
+
+    /**
+     * Constructor.
+     */
+    public PreviewManifestDTO() {
+    }
+
+    /**
+     * @param spec  The hash identifying the preview
+     * @param files The files
+     */
+    public PreviewManifestDTO(String spec, List<PreviewFileDTO> files) {
+        this.spec = spec;
+        this.files = files;
+    }
+
+    /**
+     * @return The hash identifying the preview
+     */
+    @Schema(description = "The hash identifying the preview, used to fetch the contents of a file")
+    public String getSpec() {
+        return spec;
+    }
+
+    /**
+     * @param spec The hash identifying the preview
+     */
+    public void setSpec(String spec) {
+        this.spec = spec;
+    }
+
+    /**
+     * @return The files
+     */
+    @Schema(description = "The files of the generated ZIP, in the order they were generated")
+    public List<PreviewFileDTO> getFiles() {
+        return files;
+    }
+
+    /**
+     * @param files The files
+     */
+    public void setFiles(List<PreviewFileDTO> files) {
+        this.files = files;
+    }
+}
@@ -17,10 +17,13 @@ package org.grails.forge.api.preview;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
 import io.swagger.v3.oas.annotations.Parameter;
 import org.grails.forge.api.RequestInfo;
 import org.grails.forge.api.TestFramework;
 import org.grails.forge.application.ApplicationType;
+import org.grails.forge.application.OperatingSystem;
 import org.grails.forge.options.BuildTool;
 import org.grails.forge.options.GormImpl;
 import org.grails.forge.options.JdkVersion;
@@ -55,4 +58,62 @@ public interface PreviewOperations {
             @Nullable ServletImpl servlet,
             @Nullable JdkVersion javaVersion,
             @Parameter(hidden = true) RequestInfo requestInfo) throws IOException;
+
+    /**
+     * Lists the files of an application.
+     *
+     * @param type        The application type
+     * @param name        The name of the application
+     * @param features    The features
+     * @param build       The build tool
+     * @param test        The test framework
+     * @param gorm        The GORM
+     * @param servlet     The Servlet
+     * @param javaVersion The java version
+     * @param os          The operating system
+     * @param requestInfo The request info
+     * @return The paths, sizes and hashes of the files and the hash identifying the preview
+     * @throws IOException if an I/O error occurs
+     */
+    PreviewManifestDTO previewManifest(
+            @NonNull ApplicationType type,
+            String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool build,
+            @Nullable TestFramework test,
+            @Nullable GormImpl gorm,
+            @Nullable ServletImpl servlet,
+            @Nullable JdkVersion javaVersion,
+            @Nullable OperatingSystem os,
+            @Parameter(hidden = true) RequestInfo requestInfo) throws IOException;
+
+    /**
+     * Fetches the contents of one file of a preview.
+     *
+     * @param type        The application type
+     * @param name        The name of the application
+     * @param spec        The hash identifying the preview
+     * @param path        The path of the file
+     * @param features    The features
+     * @param test        The test framework
+     * @param gorm        The GORM
+     * @param servlet     The Servlet
+     * @param javaVersion The java version
+     * @param os          The operating system
+     * @param request     The request
+     * @return An HTTP response with the contents of the file
+     * @throws IOException if an I/O error occurs
+     */
+    MutableHttpResponse<?> previewFile(
+            @NonNull ApplicationType type,
+            String name,
+            String spec,
+            String path,
+            @Nullable List<String> features,
+            @Nullable TestFramework test,
+            @Nullable GormImpl gorm,
+            @Nullable ServletImpl servlet,
+            @Nullable JdkVersion javaVersion,
+            @Nullable OperatingSystem os,
+            HttpRequest<?> request) throws IOException;
 }
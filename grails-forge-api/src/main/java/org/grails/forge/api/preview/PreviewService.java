@@ -0,0 +1,311 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.api.preview;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.MediaType;
+import jakarta.inject.Singleton;
+import org.grails.forge.api.cache.CachedBody;
+import org.grails.forge.application.ApplicationType;
+import org.grails.forge.application.OperatingSystem;
+import org.grails.forge.application.generator.ProjectGenerator;
+import org.grails.forge.io.ConsoleOutput;
+import org.grails.forge.io.OutputHandler;
+import org.grails.forge.options.Options;
+import org.grails.forge.template.Template;
+import org.grails.forge.util.LruCache;
+import org.grails.forge.util.NameUtils;
+import org.grails.forge.util.VersionCatalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Generates previews and keeps the generated files of recent previews, keyed by a hash of
+ * everything the generation depends on, so the files can be fetched one at a time.
+ *
+ * The hash covers the inputs and the revision of the {@link VersionCatalog}, which is a digest of
+ * its contents, so any instance given the same inputs can generate the files of a preview again.
+ * The inputs of recent previews are also remembered longer than their files, for requests that
+ * only name the hash.
+ *
+ * @since 7.0.0
+ */
+@Singleton
+public class PreviewService {
+
+    public static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, Collections.singletonMap(MediaType.CHARSET_PARAMETER, "utf-8"));
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int SPEC_BYTES = 16;
+    private static final int MAX_SPECS = 4096;
+    private static final int MAX_PREVIEWS = 32;
+
+    private final ProjectGenerator projectGenerator;
+    private final LruCache<String, Spec> specs = new LruCache<>(MAX_SPECS);
+    private final LruCache<String, Generated> previews = new LruCache<>(MAX_PREVIEWS);
+
+    public PreviewService(ProjectGenerator projectGenerator) {
+        this.projectGenerator = projectGenerator;
+    }
+
+    /**
+     * Generates a preview, or returns the files of the same preview generated before.
+     *
+     * @param type            The application type
+     * @param name            The name of the application
+     * @param options         The options
+     * @param operatingSystem The operating system
+     * @param features        The selected features
+     * @return The preview
+     * @throws Exception If the application cannot be generated
+     */
+    @NonNull
+    public Preview preview(@NonNull ApplicationType type,
+                           @NonNull String name,
+                           @NonNull Options options,
+                           @Nullable OperatingSystem operatingSystem,
+                           @NonNull List<String> features) throws Exception {
+        Spec spec = new Spec(type, name, options, operatingSystem, features, VersionCatalog.current().getRevision());
+        specs.putIfAbsent(spec.id, spec);
+        return new Preview(spec.id, getFiles(spec.id, spec));
+    }
+
+    /**
+     * @param type            The application type the preview was generated for
+     * @param name            The name of the application the preview was generated for
+     * @param id              The hash identifying the preview
+     * @param options         The options the preview was generated with
+     * @param operatingSystem The operating system the preview was generated for
+     * @param features        The features selected for the preview
+     * @return The generated files by path, in the order they were generated, or empty if the preview
+     * is unknown, was generated for another type or name, or with another catalog
+     * @throws Exception If the application cannot be generated
+     */
+    @NonNull
+    public Optional<Map<String, PreviewFile>> getFiles(@NonNull ApplicationType type,
+                                                       @NonNull String name,
+                                                       @NonNull String id,
+                                                       @NonNull Options options,
+                                                       @Nullable OperatingSystem operatingSystem,
+                                                       @NonNull List<String> features) throws Exception {
+        Spec spec = new Spec(type, name, options, operatingSystem, features, VersionCatalog.current().getRevision());
+        if (spec.id.equals(id)) {
+            return Optional.of(getFiles(id, spec));
+        }
+        // the request may only name the hash of a preview generated here
+        return getFiles(type, name, id);
+    }
+
+    /**
+     * @param type The application type the preview was generated for
+     * @param name The name of the application the preview was generated for
+     * @param id   The hash identifying the preview
+     * @return The generated files by path, in the order they were generated, or empty if the preview
+     * is unknown or was generated for another type or name
+     * @throws Exception If the application cannot be generated
+     */
+    @NonNull
+    public Optional<Map<String, PreviewFile>> getFiles(@NonNull ApplicationType type,
+                                                       @NonNull String name,
+                                                       @NonNull String id) throws Exception {
+        Generated generated = previews.get(id);
+        if (generated != null) {
+            return generated.spec.matches(type, name) ? Optional.of(generated.files) : Optional.empty();
+        }
+        Spec spec = specs.get(id);
+        if (spec == null || !spec.matches(type, name) || spec.revision != VersionCatalog.current().getRevision()) {
+            return Optional.empty();
+        }
+        return Optional.of(getFiles(id, spec));
+    }
+
+    private Map<String, PreviewFile> getFiles(String id, Spec spec) throws Exception {
+        Generated generated = previews.get(id);
+        if (generated != null) {
+            return generated.files;
+        }
+        return previews.putIfAbsent(id, new Generated(spec, generate(spec))).files;
+    }
+
+    private Map<String, PreviewFile> generate(Spec spec) throws Exception {
+        PreviewOutputHandler outputHandler = new PreviewOutputHandler();
+        projectGenerator.generate(spec.type,
+                NameUtils.parse(spec.name),
+                spec.options,
+                spec.operatingSystem,
+                spec.features,
+                outputHandler,
+                ConsoleOutput.NOOP);
+        return Collections.unmodifiableMap(outputHandler.files);
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            char[] chars = new char[SPEC_BYTES * 2];
+            for (int i = 0; i < SPEC_BYTES; i++) {
+                chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(chars);
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM provides SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The files of a preview and the hash identifying it.
+     */
+    public static final class Preview {
+
+        private final String id;
+        private final Map<String, PreviewFile> files;
+
+        private Preview(String id, Map<String, PreviewFile> files) {
+            this.id = id;
+            this.files = files;
+        }
+
+        /**
+         * @return The hash identifying the preview
+         */
+        @NonNull
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @return The generated files by path, in the order they were generated
+         */
+        @NonNull
+        public Map<String, PreviewFile> getFiles() {
+            return files;
+        }
+    }
+
+    /**
+     * A generated file.
+     */
+    public static final class PreviewFile {
+
+        private final CachedBody body;
+        private final boolean binary;
+
+        private PreviewFile(CachedBody body, boolean binary) {
+            this.body = body;
+            this.binary = binary;
+        }
+
+        /**
+         * @return The contents, tagged with a digest of the bytes
+         */
+        @NonNull
+        public CachedBody getBody() {
+            return body;
+        }
+
+        /**
+         * @return Whether the file is binary
+         */
+        public boolean isBinary() {
+            return binary;
+        }
+    }
+
+    private static final class Spec {
+
+        private final ApplicationType type;
+        private final String name;
+        private final Options options;
+        private final OperatingSystem operatingSystem;
+        private final List<String> features;
+        private final long revision;
+
+        private final String id;
+
+        private Spec(ApplicationType type, String name, Options options, OperatingSystem operatingSystem, List<String> features, long revision) {
+            this.type = type;
+            this.name = name;
+            this.options = options;
+            this.operatingSystem = operatingSystem;
+            this.features = new ArrayList<>(new TreeSet<>(features));
+            this.revision = revision;
+            this.id = hash(String.join("\n",
+                    type.getName(),
+                    name,
+                    String.join(",", this.features),
+                    String.valueOf(options.getTestFramework()),
+                    String.valueOf(options.getGormImpl()),
+                    String.valueOf(options.getServletImpl()),
+                    String.valueOf(options.getJavaVersion()),
+                    String.valueOf(operatingSystem),
+                    String.valueOf(revision)));
+        }
+
+        private boolean matches(ApplicationType type, String name) {
+            return this.type == type && this.name.equals(name);
+        }
+    }
+
+    private static final class Generated {
+
+        private final Spec spec;
+        private final Map<String, PreviewFile> files;
+
+        private Generated(Spec spec, Map<String, PreviewFile> files) {
+            this.spec = spec;
+            this.files = files;
+        }
+    }
+
+    private static final class PreviewOutputHandler implements OutputHandler {
+
+        private final Map<String, PreviewFile> files = new LinkedHashMap<>();
+
+        @Override
+        public boolean exists(String path) {
+            return files.containsKey(path);
+        }
+
+        @Override
+        public void write(String path, Template contents) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            contents.write(out);
+            MediaType contentType = contents.isBinary() ? MediaType.APPLICATION_OCTET_STREAM_TYPE : TEXT_PLAIN_UTF8;
+            files.put(path, new PreviewFile(CachedBody.of(out.toByteArray(), contentType), contents.isBinary()));
+        }
+
+        @Override
+        public String getOutputLocation() {
+            return null;
+        }
+
+        @Override
+        public void close() { }
+    }
+}
@@ -3,6 +3,8 @@ package org.grails.forge.api
 import io.micronaut.context.i18n.ResourceBundleMessageSource
 import io.micronaut.http.HttpHeaders
 import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
 import io.micronaut.http.annotation.Get
 import io.micronaut.http.annotation.Header
 import io.micronaut.http.client.HttpClient
@@ -31,6 +33,47 @@ class ApplicationControllerSpec extends Specification {
         response.versions["grails.version"]
     }
 
+    void "metadata responses carry an ETag and are not resent when unchanged"() {
+        when:
+        HttpResponse<String> first = client.toBlocking().exchange(HttpRequest.GET('/application-types'), String)
+        HttpResponse<String> second = client.toBlocking().exchange(HttpRequest.GET('/application-types'), String)
+
+        then:
+        first.header(HttpHeaders.ETAG)
+        first.header(HttpHeaders.ETAG) == second.header(HttpHeaders.ETAG)
+        first.body() == second.body()
+        first.header(HttpHeaders.CACHE_CONTROL).startsWith("public")
+
+        when:
+        HttpResponse<String> notModified = client.toBlocking().exchange(HttpRequest.GET('/application-types')
+                .header(HttpHeaders.IF_NONE_MATCH, first.header(HttpHeaders.ETAG)), String)
+
+        then:
+        notModified.status() == HttpStatus.NOT_MODIFIED
+        !notModified.body()
+
+        when:
+        HttpResponse<String> spanish = client.toBlocking().exchange(HttpRequest.GET('/application-types')
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "es"), String)
+
+        then:
+        spanish.header(HttpHeaders.ETAG) != first.header(HttpHeaders.ETAG)
+    }
+
+    void "the catalog contains the types, their features and defaults, the options and the versions"() {
+        when:
+        HttpResponse<Map> response = client.toBlocking().exchange(HttpRequest.GET('/catalog'), Map)
+        Map catalog = response.body()
+
+        then:
+        response.header(HttpHeaders.ETAG)
+        catalog.types.find { it.name == 'web' }
+        catalog.features.web.find { it.name == 'gorm-mongodb' }
+        catalog.defaultFeatures.web
+        catalog.options.jdkVersion
+        catalog.versions.versions["grails.version"]
+    }
+
     void "test application types"() {
         when:
         def types = applicationTypeClient.spanishTypes()
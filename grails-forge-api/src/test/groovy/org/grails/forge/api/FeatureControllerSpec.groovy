@@ -3,8 +3,10 @@ package org.grails.forge.api
 import com.fasterxml.jackson.core.JsonParser
 import com.fasterxml.jackson.databind.ObjectMapper
 import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
 import io.micronaut.http.client.HttpClient
 import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.exceptions.HttpClientResponseException
 import io.micronaut.json.tree.JsonNode
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
@@ -169,4 +171,45 @@ class FeatureControllerSpec extends Specification {
 
         map.features.collect { it -> it.name }.find { it == 'gorm-mongodb'}
     }
+
+    void 'test resolve features'() {
+        when:
+        FeatureResolutionDTO resolution = applicationTypeClient
+                .resolveFeatures(ApplicationType.DEFAULT_OPTION,
+                        RequestInfo.LOCAL,
+                        ["mysql"],
+                        null)
+
+        then:
+        resolution.features.contains("mysql")
+        !resolution.defaultFeatures.isEmpty()
+        resolution.features.containsAll(resolution.defaultFeatures)
+        resolution.incompatibleFeatures.contains("postgres")
+        !resolution.incompatibleFeatures.contains("mysql")
+    }
+
+    void 'test resolve features with an unknown feature'() {
+        when:
+        applicationTypeClient.resolveFeatures(ApplicationType.DEFAULT_OPTION,
+                RequestInfo.LOCAL,
+                ["not-a-feature"],
+                null)
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.status == HttpStatus.BAD_REQUEST
+    }
+
+    void 'test search features'() {
+        when:
+        List<FeatureMatchDTO> matches = applicationTypeClient
+                .searchFeatures(ApplicationType.DEFAULT_OPTION,
+                        RequestInfo.LOCAL,
+                        "mysql",
+                        5).features
+
+        then:
+        matches.size() <= 5
+        matches.first().name == "mysql"
+    }
 }
@@ -2,6 +2,8 @@ package org.grails.forge.api
 
 
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import org.grails.forge.application.ApplicationType
+import org.grails.forge.options.Options
 import jakarta.inject.Inject
 import spock.lang.Specification
 
@@ -19,4 +21,21 @@ class FeatureOperationsSpec extends Specification {
         features
         features.stream().noneMatch(feature -> feature.name == "gradle" )
     }
+
+    void "feature lists are cached per locale, type and options"() {
+        when:
+        List<FeatureDTO> features = featureOperations.getFeatures(Locale.ENGLISH, ApplicationType.WEB, new Options())
+
+        then:
+        featureOperations.getFeatures(Locale.ENGLISH, ApplicationType.WEB, new Options()).is(features)
+        !featureOperations.getFeatures(Locale.ENGLISH, ApplicationType.PLUGIN, new Options()).is(features)
+        featureOperations.getDefaultFeatures(Locale.ENGLISH, ApplicationType.WEB, new Options()) ==
+                featureOperations.getDefaultFeatures(Locale.ENGLISH, ApplicationType.WEB, new Options())
+
+        when:
+        features.add(features.first())
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
 }
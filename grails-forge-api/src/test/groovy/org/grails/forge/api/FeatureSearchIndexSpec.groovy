@@ -0,0 +1,38 @@
+package org.grails.forge.api
+
+import spock.lang.Specification
+
+class FeatureSearchIndexSpec extends Specification {
+
+    FeatureSearchIndex index = new FeatureSearchIndex([
+            new FeatureDTO("gorm-hibernate5", "GORM for Hibernate 5", "Adds support for Hibernate5 using GORM", "Database"),
+            new FeatureDTO("mysql", "MySQL", "Adds the MySQL driver and default config", "Database"),
+            new FeatureDTO("cache", "Grails Cache", "Adds caching support using Caffeine", "Cache"),
+            new FeatureDTO("hamcrest", "Hamcrest", "Matchers for tests", "Test"),
+            new FeatureDTO("database-migration", "Database Migration", "Adds support for database migrations with Liquibase", "Database"),
+    ])
+
+    void "test name matches rank before other fields"() {
+        expect:
+        index.search("database", 10)*.name == ["database-migration", "gorm-hibernate5", "mysql"]
+        index.search("cache", 10)*.name == ["cache"]
+    }
+
+    void "test every term must match"() {
+        expect:
+        index.search("database mysql", 10)*.name == ["mysql"]
+        index.search("cache mysql", 10).isEmpty()
+    }
+
+    void "test substrings and misspellings match through trigrams"() {
+        expect:
+        index.search("ibernat", 10)*.name == ["gorm-hibernate5"]
+        index.search("cafeine", 10)*.name == ["cache"]
+    }
+
+    void "test limit and empty queries"() {
+        expect:
+        index.search("database", 1)*.name == ["database-migration"]
+        index.search(" - ", 10).isEmpty()
+    }
+}
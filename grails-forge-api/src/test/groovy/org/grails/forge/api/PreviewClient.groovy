@@ -1,10 +1,12 @@
 package org.grails.forge.api
 
 import io.micronaut.core.annotation.Nullable
+import io.micronaut.http.HttpResponse
 import io.micronaut.http.MediaType
 import io.micronaut.http.annotation.Get
 import io.micronaut.http.client.annotation.Client
 import org.grails.forge.api.preview.PreviewDTO
+import org.grails.forge.api.preview.PreviewManifestDTO
 import org.grails.forge.application.ApplicationType
 import org.grails.forge.options.BuildTool
 import org.grails.forge.options.Language
@@ -20,4 +22,16 @@ interface PreviewClient  {
             @Nullable TestFramework test,
             @Nullable Language lang
     );
+
+    @Get(uri = "/web/{name}/manifest{?features,build,test,lang}", consumes = MediaType.APPLICATION_JSON)
+    PreviewManifestDTO previewManifest(
+            String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool build,
+            @Nullable TestFramework test,
+            @Nullable Language lang
+    );
+
+    @Get(uri = "/web/{name}/files/{spec}{?path}", consumes = MediaType.TEXT_PLAIN)
+    HttpResponse<String> previewFile(String name, String spec, String path);
 }
@@ -1,12 +1,20 @@
 package org.grails.forge.api
 
 
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
 import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
 import io.micronaut.http.client.exceptions.HttpClientResponseException
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
+import org.grails.forge.api.preview.PreviewService
 import org.grails.forge.application.ApplicationType
+import org.grails.forge.application.OperatingSystem
+import org.grails.forge.application.generator.ProjectGenerator
 import org.grails.forge.feature.other.GrailsQuartz
+import org.grails.forge.options.Options
 import spock.lang.Specification
 
 @MicronautTest
@@ -14,6 +22,13 @@ class PreviewControllerSpec extends Specification {
     @Inject
     PreviewClient client
 
+    @Inject
+    @Client("/")
+    HttpClient httpClient
+
+    @Inject
+    ProjectGenerator projectGenerator
+
     void "test default create app command"() {
         when:
         def map = client.previewApp(ApplicationType.DEFAULT_OPTION, "test", Collections.emptyList(), null, null, null)
@@ -40,4 +55,78 @@ class PreviewControllerSpec extends Specification {
         e.status == HttpStatus.BAD_REQUEST
         e.getResponse().getBody(Map).get()._embedded.errors[0].message == 'The requested feature does not exist: juikkkk'
     }
+
+    void "test preview manifest and file contents"() {
+        when:
+        def manifest = client.previewManifest("test", [GrailsQuartz.FEATURE_NAME], null, null, null)
+        def buildFile = manifest.files.find { it.path == 'build.gradle' }
+
+        then:
+        manifest.spec
+        buildFile.size > 0
+        buildFile.hash
+        !buildFile.binary
+        manifest.files.any { it.binary }
+        client.previewManifest("test", [GrailsQuartz.FEATURE_NAME, GrailsQuartz.FEATURE_NAME], null, null, null).spec == manifest.spec
+
+        when:
+        def response = client.previewFile("test", manifest.spec, 'build.gradle')
+
+        then:
+        response.body().contains('org.grails.plugins:quartz')
+        response.body().bytes.length == buildFile.size
+        response.header(HttpHeaders.ETAG) == '"' + buildFile.hash + '"'
+        response.header(HttpHeaders.CACHE_CONTROL).contains("immutable")
+    }
+
+    void "test preview file - spec of another application name"() {
+        when:
+        def manifest = client.previewManifest("test", Collections.emptyList(), null, null, null)
+        client.previewFile("other", manifest.spec, 'build.gradle')
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.status == HttpStatus.NOT_FOUND
+    }
+
+    void "test preview file - unknown file"() {
+        when:
+        def manifest = client.previewManifest("test", Collections.emptyList(), null, null, null)
+        client.previewFile("test", manifest.spec, 'junk.txt')
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.status == HttpStatus.NOT_FOUND
+    }
+
+    void "test preview file - link of the manifest carries the inputs"() {
+        when:
+        Map manifest = httpClient.toBlocking().retrieve(HttpRequest.GET("/preview/web/test/manifest?features=${GrailsQuartz.FEATURE_NAME}"), Map)
+        String href = manifest._links.preview.href
+
+        then:
+        href.contains("/preview/web/test/files/${manifest.spec}?features=${GrailsQuartz.FEATURE_NAME}&")
+        href.contains("&os=")
+        href.endsWith("{&path}")
+
+        when:
+        URI file = URI.create(href.replace("{&path}", "&path=build.gradle"))
+        String body = httpClient.toBlocking().retrieve(HttpRequest.GET(file.rawPath + "?" + file.rawQuery))
+
+        then:
+        body.contains('org.grails.plugins:quartz')
+    }
+
+    void "test preview file - another instance generates the files from the inputs"() {
+        given:
+        Options options = new Options()
+        String id = new PreviewService(projectGenerator).preview(ApplicationType.WEB, "test", options, OperatingSystem.LINUX, [GrailsQuartz.FEATURE_NAME]).id
+        PreviewService other = new PreviewService(projectGenerator)
+
+        expect:
+        !other.getFiles(ApplicationType.WEB, "test", id).present
+        other.getFiles(ApplicationType.WEB, "test", id, options, OperatingSystem.LINUX, [GrailsQuartz.FEATURE_NAME])
+                .get()['build.gradle'].body.bytes.length > 0
+        !other.getFiles(ApplicationType.WEB, "test", id, options, OperatingSystem.WINDOWS, [GrailsQuartz.FEATURE_NAME]).present
+    }
 }
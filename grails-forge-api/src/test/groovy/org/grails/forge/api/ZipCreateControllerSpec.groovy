@@ -2,8 +2,12 @@ package org.grails.forge.api
 
 
 import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
 import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.DefaultHttpClientConfiguration
+import io.micronaut.http.client.HttpClient
 import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.runtime.server.EmbeddedServer
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
 import org.grails.forge.options.BuildTool
@@ -20,6 +24,9 @@ class ZipCreateControllerSpec extends Specification {
     @Inject
     MyEventListener eventListener
 
+    @Inject
+    EmbeddedServer embeddedServer
+
     void "test default create app command"() {
         when:
         def bytes = client.createApp("test", Collections.emptyList(), null, null, null)
@@ -92,4 +99,77 @@ class ZipCreateControllerSpec extends Specification {
         then:
         ZipUtil.containsFileWithContents(bytes, "test/build.gradle", "spock")
     }
+
+    void "test non canonical urls are redirected to the canonical url"() {
+        given:
+        def configuration = new DefaultHttpClientConfiguration()
+        configuration.followRedirects = false
+        def httpClient = HttpClient.create(embeddedServer.URL, configuration)
+
+        when:
+        def redirect = httpClient.toBlocking().exchange(HttpRequest.GET("/create/web/test?features=gorm-mongodb&features=gorm-mongodb"))
+        def location = redirect.header(HttpHeaders.LOCATION)
+
+        then:
+        redirect.status == HttpStatus.MOVED_PERMANENTLY
+        location.startsWith("/create/web/test?features=")
+        location.contains("features=gorm-mongodb")
+        location.count("features=gorm-mongodb") == 1
+        location.contains("&build=GRADLE&test=SPOCK&gorm=")
+        location.contains("&compression=")
+        location.endsWith("&os=LINUX")
+        redirect.header(HttpHeaders.CACHE_CONTROL) == "private, max-age=86400"
+        redirect.header(HttpHeaders.VARY) == null
+
+        when:
+        def response = httpClient.toBlocking().exchange(HttpRequest.GET(location), byte[])
+
+        then:
+        response.status == HttpStatus.CREATED
+        ZipUtil.isZip(response.body())
+        response.header(HttpHeaders.CACHE_CONTROL) == "public, max-age=86400"
+        response.header(HttpHeaders.VARY) == null
+
+        cleanup:
+        httpClient.close()
+    }
+
+    void "test the zip url is redirected with the type spelled out"() {
+        given:
+        def configuration = new DefaultHttpClientConfiguration()
+        configuration.followRedirects = false
+        def httpClient = HttpClient.create(embeddedServer.URL, configuration)
+
+        when:
+        def redirect = httpClient.toBlocking().exchange(HttpRequest.GET("/test.zip"))
+
+        then:
+        redirect.status == HttpStatus.MOVED_PERMANENTLY
+        redirect.header(HttpHeaders.LOCATION).startsWith("/test.zip?type=web&")
+
+        cleanup:
+        httpClient.close()
+    }
+
+    void "test the operating system is taken from the user agent unless it is given"() {
+        given:
+        def configuration = new DefaultHttpClientConfiguration()
+        configuration.followRedirects = false
+        def httpClient = HttpClient.create(embeddedServer.URL, configuration)
+
+        when:
+        def detected = httpClient.toBlocking().exchange(HttpRequest.GET("/create/web/test")
+                .header(HttpHeaders.USER_AGENT, "Mozilla/5.0 (Windows NT 10.0; Win64; x64)"))
+        def explicit = httpClient.toBlocking().exchange(HttpRequest.GET("/create/web/test?os=MACOS")
+                .header(HttpHeaders.USER_AGENT, "Mozilla/5.0 (Windows NT 10.0; Win64; x64)"))
+
+        then:
+        detected.header(HttpHeaders.LOCATION).endsWith("&os=WINDOWS")
+        detected.header(HttpHeaders.CACHE_CONTROL) == "private, max-age=86400"
+        explicit.header(HttpHeaders.LOCATION).endsWith("&os=MACOS")
+        explicit.header(HttpHeaders.CACHE_CONTROL) == "public, max-age=86400"
+
+        cleanup:
+        httpClient.close()
+    }
 }
@@ -0,0 +1,62 @@
+package org.grails.forge.api.cache
+
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import spock.lang.Specification
+
+import java.util.zip.GZIPInputStream
+
+class CachedBodySpec extends Specification {
+
+    void "large bodies are sent gzip compressed to clients that accept it"() {
+        given:
+        byte[] bytes = ('{"name":"' + ('a' * 4096) + '"}').bytes
+        CachedBody body = CachedBody.of(bytes, MediaType.APPLICATION_JSON_TYPE)
+
+        when:
+        def plain = body.respond(HttpRequest.GET("/catalog"), "public")
+        def compressed = body.respond(HttpRequest.GET("/catalog").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"), "public")
+
+        then:
+        !plain.header(HttpHeaders.CONTENT_ENCODING)
+        plain.body() == bytes
+        compressed.header(HttpHeaders.CONTENT_ENCODING) == "gzip"
+        compressed.header(HttpHeaders.ETAG) != plain.header(HttpHeaders.ETAG)
+        new GZIPInputStream(new ByteArrayInputStream(compressed.body() as byte[])).bytes == bytes
+        compressed.header(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING)
+
+        when:
+        def notModified = body.respond(HttpRequest.GET("/catalog")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, compressed.header(HttpHeaders.ETAG)), "public")
+
+        then:
+        notModified.status() == HttpStatus.NOT_MODIFIED
+    }
+
+    void "small bodies are not compressed"() {
+        when:
+        def response = CachedBody.of('{}'.bytes, MediaType.APPLICATION_JSON_TYPE)
+                .respond(HttpRequest.GET("/versions").header(HttpHeaders.ACCEPT_ENCODING, "gzip"), "public")
+
+        then:
+        !response.header(HttpHeaders.CONTENT_ENCODING)
+        response.body() == '{}'.bytes
+    }
+
+    void "accepted encodings honour a zero quality"() {
+        expect:
+        CachedBody.acceptsGzip(acceptEncoding) == accepted
+
+        where:
+        acceptEncoding     | accepted
+        null               | false
+        "identity"         | false
+        "gzip"             | true
+        "br, GZIP;q=0.5"   | true
+        "gzip;q=0"         | false
+        "gzip;q=0.0, br"   | false
+    }
+}
@@ -0,0 +1,41 @@
+package org.grails.forge.api.cache
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+@Property(name = "grails.forge.url", value = "https://start.grails.org")
+class MetadataCacheFilterSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    HttpClient client
+
+    @Inject
+    MetadataCacheFilter filter
+
+    void "unrelated query parameters and host headers share the cached body"() {
+        when:
+        HttpResponse<String> first = client.toBlocking().exchange(HttpRequest.GET('/versions?a=1'), String)
+        HttpResponse<String> second = client.toBlocking().exchange(HttpRequest.GET('/versions?a=2')
+                .header(HttpHeaders.HOST, "example.com"), String)
+
+        then:
+        first.header(HttpHeaders.ETAG) == second.header(HttpHeaders.ETAG)
+        filter.bodies.size() == 1
+
+        when:
+        client.toBlocking().exchange(HttpRequest.GET('/application-types/web/features?gorm=MONGODB'), String)
+        client.toBlocking().exchange(HttpRequest.GET('/application-types/web/features?gorm=HIBERNATE'), String)
+
+        then:
+        filter.bodies.size() == 3
+    }
+}
@@ -12,6 +12,7 @@ import org.grails.forge.util.GitHubUtil
 import spock.lang.Ignore
 import spock.lang.Retry
 import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
 
 import java.nio.file.Path
 import java.nio.file.Paths
@@ -33,7 +34,7 @@ class GitHubCreateControllerSpec extends Specification {
         return m
     }
 
-    void "returns redirect with error when repository exists"() {
+    void "returns redirect with the job when the launcher is configured"() {
         given:
         EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer,
                 getConfiguration(new MapEntry("micronaut.http.client.follow-redirects", false)))
@@ -42,38 +43,27 @@ class GitHubCreateControllerSpec extends Specification {
 
         when:
         HttpResponse response = httpClient.toBlocking().exchange(HttpRequest.GET("/github/web/foo.bar.existing?code=123&state=123"))
+        String location = response.header(HttpHeaders.LOCATION)
+        String id = location.find(/job=([\w-]+)/) { match, jobId -> jobId }
 
         then:
         response.getStatus().code == 307
-        response.header(HttpHeaders.LOCATION).contains("error")
-        response.header(HttpHeaders.LOCATION).startsWith("https://start.grails.org")
-
-        cleanup:
-        embeddedServer.close()
-    }
-
-    void "returns redirect to launcher if redirectUri is configured"() {
-        given:
-        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer,
-                getConfiguration(new MapEntry("micronaut.http.client.follow-redirects", false)))
-
-        HttpClient httpClient = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+        location.startsWith("https://start.grails.org")
+        location.contains("jobUrl")
+        id
 
         when:
-        HttpResponse response = httpClient.toBlocking().exchange(HttpRequest.GET("/github/web/foo?code=123&state=123"))
+        GitHubCreateJobDTO job = awaitJob(httpClient, id)
 
         then:
-        response.getStatus().code == 307
-        response.header(HttpHeaders.LOCATION).contains("cloneUrl")
-        response.header(HttpHeaders.LOCATION).contains("htmlUrl")
-        response.header(HttpHeaders.LOCATION).contains("url")
-        response.header(HttpHeaders.LOCATION).startsWith("https://start.grails.org")
+        job.status == GitHubCreateJobDTO.Status.FAILED
+        job.error.contains("already exists")
 
         cleanup:
         embeddedServer.close()
     }
 
-    void "returns github repository details when launcher missing"() {
+    void "returns github repository details once the job is completed when launcher missing"() {
         given:
         EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer,
                 getConfiguration(new MapEntry("grails.forge.redirectUri", "")))
@@ -81,10 +71,14 @@ class GitHubCreateControllerSpec extends Specification {
         HttpClient httpClient = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
 
         when:
-        GitHubCreateDTO dto = httpClient.toBlocking().retrieve(HttpRequest.GET("/github/web/foo?code=123&state=123"), GitHubCreateDTO.class)
+        HttpResponse<GitHubCreateJobDTO> response = httpClient.toBlocking().exchange(HttpRequest.GET("/github/web/foo?code=123&state=123"), GitHubCreateJobDTO)
+        GitHubCreateJobDTO job = awaitJob(httpClient, response.body().id)
 
         then:
-        Path clonePath = Paths.get(new URL(dto.cloneUrl).toURI())
+        response.getStatus().code == 202
+        response.header(HttpHeaders.LOCATION).endsWith("/github/jobs/" + response.body().id)
+        job.status == GitHubCreateJobDTO.Status.COMPLETED
+        Path clonePath = Paths.get(new URL(job.repository.cloneUrl).toURI())
         Git bareRepo = Git.open(clonePath.toFile())
         List<RevCommit> commits = bareRepo.log().call().toList()
         commits.size() == 1
@@ -96,4 +90,12 @@ class GitHubCreateControllerSpec extends Specification {
         embeddedServer.close()
         clonePath.toFile().deleteDir()
     }
+
+    private static GitHubCreateJobDTO awaitJob(HttpClient httpClient, String id) {
+        new PollingConditions(timeout: 30).eventually {
+            GitHubCreateJobDTO job = httpClient.toBlocking().retrieve(HttpRequest.GET("/github/jobs/" + id), GitHubCreateJobDTO)
+            assert job.status in [GitHubCreateJobDTO.Status.COMPLETED, GitHubCreateJobDTO.Status.FAILED]
+        }
+        return httpClient.toBlocking().retrieve(HttpRequest.GET("/github/jobs/" + id), GitHubCreateJobDTO)
+    }
 }
@@ -0,0 +1,73 @@
+package org.grails.forge.api.create.github
+
+import org.grails.forge.api.GrailsForgeConfiguration
+import org.grails.forge.client.github.v3.GitHubRepository
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.RejectedExecutionException
+
+class GitHubCreateJobServiceSpec extends Specification {
+
+    void "jobs report their repository or their error"() {
+        given:
+        GitHubCreateJobService service = new GitHubCreateJobService(new GrailsForgeConfiguration.GitHubConfiguration())
+        GitHubRepository repository = Mock(GitHubRepository) {
+            getUrl() >> "url"
+            getCloneUrl() >> "cloneUrl"
+            getHtmlUrl() >> "htmlUrl"
+        }
+
+        when:
+        GitHubCreateJobDTO completed = service.submit({ repository })
+        GitHubCreateJobDTO failed = service.submit({ throw new GitHubCreateException("Failed to get user.") })
+        GitHubCreateJobDTO unexpected = service.submit({ throw new IllegalStateException("token=secret") })
+        GitHubCreateJobDTO invalid = service.submit({ throw new IllegalArgumentException("The path /tmp/repo must be a directory!") })
+
+        then:
+        completed.id != failed.id
+        new PollingConditions(timeout: 5).eventually {
+            with(service.getJob(completed.id).get()) {
+                status == GitHubCreateJobDTO.Status.COMPLETED
+                repository.cloneUrl == "cloneUrl"
+            }
+            with(service.getJob(failed.id).get()) {
+                status == GitHubCreateJobDTO.Status.FAILED
+                error == "Failed to get user."
+            }
+            with(service.getJob(unexpected.id).get()) {
+                status == GitHubCreateJobDTO.Status.FAILED
+                error == "Failed to create the GitHub repository."
+            }
+            with(service.getJob(invalid.id).get()) {
+                status == GitHubCreateJobDTO.Status.FAILED
+                error == "Failed to create the GitHub repository."
+            }
+        }
+        !service.getJob("unknown").present
+
+        cleanup:
+        service.shutdown()
+    }
+
+    void "jobs that do not fit in the queue are rejected"() {
+        given:
+        def configuration = new GrailsForgeConfiguration.GitHubConfiguration(workers: 1, queueSize: 1)
+        GitHubCreateJobService service = new GitHubCreateJobService(configuration)
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when:
+        GitHubCreateJobDTO running = service.submit({ latch.await(); null })
+        GitHubCreateJobDTO queued = service.submit({ latch.await(); null })
+        service.submit({ null })
+
+        then:
+        thrown(RejectedExecutionException)
+        queued.status == GitHubCreateJobDTO.Status.QUEUED
+
+        cleanup:
+        latch.countDown()
+        service.shutdown()
+    }
+}
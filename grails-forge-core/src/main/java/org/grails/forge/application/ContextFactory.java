@@ -23,6 +23,7 @@ import org.grails.forge.feature.AvailableFeatures;
 import org.grails.forge.feature.DefaultFeature;
 import org.grails.forge.feature.Feature;
 import org.grails.forge.feature.FeatureContext;
+import org.grails.forge.feature.FeatureSet;
 import org.grails.forge.feature.validation.FeatureValidator;
 import org.grails.forge.io.ConsoleOutput;
 import org.grails.forge.options.*;
@@ -64,14 +65,15 @@ public class ContextFactory {
                 .withGormImpl(determineGormImpl(options.getGormImpl()))
                 .withServletImpl(determineServletImpl(options.getServletImpl()));
 
-        availableFeatures.getAllFeatures()
-                .filter(f -> f instanceof DefaultFeature)
-                .filter(f -> ((DefaultFeature) f).shouldApply(applicationType, newOptions, features))
+        availableFeatures.getAllFeatures(DefaultFeature.class)
+                .filter(f -> f.shouldApply(applicationType, newOptions, features))
                 .forEach(features::add);
 
-        featureValidator.validatePreProcessing(newOptions, applicationType, features);
+        FeatureContext featureContext = new FeatureContext(newOptions, applicationType, operatingSystem, features, availableFeatures);
 
-        return new FeatureContext(newOptions, applicationType, operatingSystem, features);
+        featureValidator.validatePreProcessing(newOptions, applicationType, features, featureContext.getSelectedFeatureSet(), availableFeatures);
+
+        return featureContext;
     }
 
     public GeneratorContext createGeneratorContext(Project project,
@@ -81,7 +83,13 @@ public class ContextFactory {
 
         Set<Feature> featureList = featureContext.getFinalFeatures(consoleOutput);
 
-        featureValidator.validatePostProcessing(featureContext.getOptions(), featureContext.getApplicationType(), featureList);
+        AvailableFeatures availableFeatures = featureContext.getAvailableFeatures();
+        if (availableFeatures != null) {
+            FeatureSet featureSet = availableFeatures.toFeatureSet(featureList);
+            featureValidator.validatePostProcessing(featureContext.getOptions(), featureContext.getApplicationType(), featureList, featureSet, availableFeatures);
+        } else {
+            featureValidator.validatePostProcessing(featureContext.getOptions(), featureContext.getApplicationType(), featureList);
+        }
 
         return new GeneratorContext(project, featureContext.getApplicationType(), featureContext.getOptions(), featureContext.getOperatingSystem(), featureList, coordinateResolver);
     }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.application;
+
+import io.micronaut.core.annotation.NonNull;
+import org.grails.forge.feature.AvailableFeatures;
+import org.grails.forge.feature.Feature;
+import org.grails.forge.feature.FeatureSet;
+
+import java.util.List;
+
+/**
+ * The outcome of resolving a partial feature selection without generating the application.
+ *
+ * @since 7.0.0
+ */
+public final class FeatureResolution {
+
+    private final AvailableFeatures availableFeatures;
+    private final FeatureSet selected;
+    private final FeatureSet defaults;
+    private final FeatureSet resolved;
+    private final FeatureSet incompatible;
+
+    FeatureResolution(AvailableFeatures availableFeatures,
+                      FeatureSet selected,
+                      FeatureSet defaults,
+                      FeatureSet resolved,
+                      FeatureSet incompatible) {
+        this.availableFeatures = availableFeatures;
+        this.selected = selected;
+        this.defaults = defaults;
+        this.resolved = resolved;
+        this.incompatible = incompatible;
+    }
+
+    /**
+     * @return The explicitly selected features
+     */
+    @NonNull
+    public List<Feature> getSelectedFeatures() {
+        return availableFeatures.toFeatures(selected);
+    }
+
+    /**
+     * @return The default features that apply to the selection
+     */
+    @NonNull
+    public List<Feature> getDefaultFeatures() {
+        return availableFeatures.toFeatures(defaults);
+    }
+
+    /**
+     * @return Every feature the generated application would have, including the ones
+     * added by other features
+     */
+    @NonNull
+    public List<Feature> getResolvedFeatures() {
+        return availableFeatures.toFeatures(resolved);
+    }
+
+    /**
+     * @return The visible features that can no longer be added to the selection
+     */
+    @NonNull
+    public List<Feature> getIncompatibleFeatures() {
+        return availableFeatures.toFeatures(incompatible);
+    }
+}
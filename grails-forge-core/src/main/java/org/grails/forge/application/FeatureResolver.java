@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.application;
+
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+import org.grails.forge.feature.AvailableFeatures;
+import org.grails.forge.feature.Feature;
+import org.grails.forge.feature.FeatureContext;
+import org.grails.forge.feature.FeatureSet;
+import org.grails.forge.feature.validation.FeatureValidator;
+import org.grails.forge.io.ConsoleOutput;
+import org.grails.forge.options.Options;
+import org.grails.forge.util.LruCache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves which features a partial selection results in, without generating the application,
+ * so feature pickers can check a selection on every change. Resolutions are cached by the
+ * selected feature ids and the options. The remaining visible features are checked against the
+ * validation rules compiled into feature id masks, see {@link FeatureValidator#isValid}.
+ *
+ * @since 7.0.0
+ */
+@Singleton
+public class FeatureResolver {
+
+    private static final int MAX_CACHED_RESOLUTIONS = 1024;
+
+    private final ContextFactory contextFactory;
+    private final FeatureValidator featureValidator;
+    private final LruCache<List<Object>, FeatureResolution> resolutions = new LruCache<>(MAX_CACHED_RESOLUTIONS);
+    private final Map<AvailableFeatures, FeatureSet> visibleFeatures = new ConcurrentHashMap<>();
+
+    public FeatureResolver(ContextFactory contextFactory, FeatureValidator featureValidator) {
+        this.contextFactory = contextFactory;
+        this.featureValidator = featureValidator;
+    }
+
+    /**
+     * @param availableFeatures The available features of the application type
+     * @param applicationType   The application type
+     * @param options           The options
+     * @param selectedFeatures  The names of the selected features
+     * @return The resolution
+     * @throws IllegalArgumentException If a feature does not exist or the selection is invalid
+     */
+    @NonNull
+    public FeatureResolution resolve(@NonNull AvailableFeatures availableFeatures,
+                                     @NonNull ApplicationType applicationType,
+                                     @NonNull Options options,
+                                     @NonNull List<String> selectedFeatures) {
+        FeatureSet.Builder selected = FeatureSet.builder();
+        for (String name: selectedFeatures) {
+            Feature feature = availableFeatures.findFeature(name).orElseThrow(() ->
+                    new IllegalArgumentException("The requested feature does not exist: " + name));
+            selected.add(availableFeatures.getFeatureId(feature));
+        }
+        FeatureSet selectedSet = selected.build();
+        if (!options.names().isEmpty()) {
+            return resolve(availableFeatures, applicationType, options, selectedFeatures, selectedSet);
+        }
+        List<Object> key = Arrays.asList(availableFeatures, applicationType, selectedSet,
+                options.getTestFramework(), options.getGormImpl(), options.getServletImpl(),
+                options.getJavaVersion(), options.getOperatingSystem());
+        return resolutions.computeIfAbsent(key, k -> resolve(availableFeatures, applicationType, options, selectedFeatures, selectedSet));
+    }
+
+    private FeatureResolution resolve(AvailableFeatures availableFeatures,
+                                      ApplicationType applicationType,
+                                      Options options,
+                                      List<String> selectedFeatures,
+                                      FeatureSet selected) {
+        FeatureContext featureContext = contextFactory.createFeatureContext(availableFeatures, selectedFeatures, applicationType, options, options.getOperatingSystem());
+        FeatureSet withDefaults = featureContext.getSelectedFeatureSet();
+        featureContext.processSelectedFeatures();
+        Set<Feature> finalFeatures = featureContext.getFinalFeatures(ConsoleOutput.NOOP);
+        FeatureSet resolved = availableFeatures.toFeatureSet(finalFeatures);
+        featureValidator.validatePostProcessing(featureContext.getOptions(), applicationType, finalFeatures, resolved, availableFeatures);
+
+        FeatureSet.Builder incompatible = FeatureSet.builder();
+        visibleFeatures.computeIfAbsent(availableFeatures, features ->
+                        features.getFeatureSet(metadata -> metadata.isVisible() && metadata.supports(applicationType)))
+                .difference(resolved)
+                .forEach(id -> {
+                    if (!featureValidator.isValid(featureContext.getOptions(), applicationType, resolved.with(id), availableFeatures)) {
+                        incompatible.add(id);
+                    }
+                });
+        return new FeatureResolution(availableFeatures, selected, withDefaults.difference(selected), resolved, incompatible.build());
+    }
+}
@@ -15,18 +15,16 @@
  */
 package org.grails.forge.application;
 
+import io.micronaut.context.BeanContext;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.grails.forge.feature.BaseAvailableFeatures;
-import org.grails.forge.feature.Feature;
-
-import java.util.List;
 
 @Named("plugin")
 @Singleton
 public class PluginAvailableFeatures extends BaseAvailableFeatures {
 
-    public PluginAvailableFeatures(List<Feature> features) {
-        super(features, ApplicationType.PLUGIN);
+    public PluginAvailableFeatures(BeanContext beanContext) {
+        super(beanContext, ApplicationType.PLUGIN);
     }
 }
@@ -15,17 +15,15 @@
  */
 package org.grails.forge.application;
 
+import io.micronaut.context.BeanContext;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.grails.forge.feature.BaseAvailableFeatures;
-import org.grails.forge.feature.Feature;
-
-import java.util.List;
 
 @Named("rest_api")
 @Singleton
 public class RestApiAvailableFeatures extends BaseAvailableFeatures {
-    public RestApiAvailableFeatures(List<Feature> features) {
-        super(features, ApplicationType.REST_API);
+    public RestApiAvailableFeatures(BeanContext beanContext) {
+        super(beanContext, ApplicationType.REST_API);
     }
 }
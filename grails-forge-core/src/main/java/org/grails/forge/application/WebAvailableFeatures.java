@@ -15,18 +15,16 @@
  */
 package org.grails.forge.application;
 
+import io.micronaut.context.BeanContext;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.grails.forge.feature.BaseAvailableFeatures;
-import org.grails.forge.feature.Feature;
-
-import java.util.List;
 
 @Named("web")
 @Singleton
 public class WebAvailableFeatures extends BaseAvailableFeatures {
 
-    public WebAvailableFeatures(List<Feature> features) {
-        super(features, ApplicationType.WEB);
+    public WebAvailableFeatures(BeanContext beanContext) {
+        super(beanContext, ApplicationType.WEB);
     }
 }
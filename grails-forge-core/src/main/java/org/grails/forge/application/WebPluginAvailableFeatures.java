@@ -15,17 +15,15 @@
  */
 package org.grails.forge.application;
 
+import io.micronaut.context.BeanContext;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.grails.forge.feature.BaseAvailableFeatures;
-import org.grails.forge.feature.Feature;
-
-import java.util.List;
 
 @Named("web_plugin")
 @Singleton
 public class WebPluginAvailableFeatures extends BaseAvailableFeatures {
-    public WebPluginAvailableFeatures(List<Feature> features) {
-        super(features, ApplicationType.WEB_PLUGIN);
+    public WebPluginAvailableFeatures(BeanContext beanContext) {
+        super(beanContext, ApplicationType.WEB_PLUGIN);
     }
 }
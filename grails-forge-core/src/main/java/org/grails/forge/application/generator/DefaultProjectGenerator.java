@@ -35,6 +35,7 @@ import org.grails.forge.template.RenderResult;
 import org.grails.forge.template.RockerTemplate;
 import org.grails.forge.template.Template;
 import org.grails.forge.template.TemplateRenderer;
+import org.grails.forge.util.VersionCatalog;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -93,13 +94,15 @@ public class DefaultProjectGenerator implements ProjectGenerator {
                                 features,
                                 applicationType)));
 
-        generatorContext.applyFeatures();
+        try (VersionCatalog.Pin ignored = VersionCatalog.pin(generatorContext.getVersionCatalog())) {
+            generatorContext.applyFeatures();
 
-        try (TemplateRenderer templateRenderer = TemplateRenderer.create(project, outputHandler)) {
-            for (Template template: generatorContext.getTemplates().values()) {
-                RenderResult renderResult = templateRenderer.render(template);
-                if (renderResult.getError() != null) {
-                    throw renderResult.getError();
+            try (TemplateRenderer templateRenderer = TemplateRenderer.create(project, outputHandler)) {
+                for (Template template: generatorContext.getTemplates().values()) {
+                    RenderResult renderResult = templateRenderer.render(template);
+                    if (renderResult.getError() != null) {
+                        throw renderResult.getError();
+                    }
                 }
             }
         }
@@ -36,6 +36,7 @@ import org.grails.forge.template.RockerTemplate;
 import org.grails.forge.template.RockerWritable;
 import org.grails.forge.template.Template;
 import org.grails.forge.template.Writable;
+import org.grails.forge.util.VersionCatalog;
 import org.grails.forge.util.VersionInfo;
 
 import java.util.*;
@@ -67,6 +68,7 @@ public class GeneratorContext implements DependencyContext {
     private final Set<Dependency> buildscriptDependencies = new HashSet<>();
 
     private final Set<BuildPlugin> buildPlugins = new HashSet<>();
+    private final VersionCatalog versionCatalog = VersionCatalog.current();
 
     public GeneratorContext(Project project,
                             ApplicationType type,
@@ -80,10 +82,20 @@ public class GeneratorContext implements DependencyContext {
         this.coordinateResolver = coordinateResolver;
         this.features = new Features(this, features, options);
         this.options = options;
-        String grailsVersion = VersionInfo.getGrailsVersion();
+        String grailsVersion;
+        try (VersionCatalog.Pin ignored = VersionCatalog.pin(versionCatalog)) {
+            grailsVersion = VersionInfo.getGrailsVersion();
+        }
         buildProperties.put("grailsVersion", grailsVersion);
     }
 
+    /**
+     * @return The version catalog this context was created with, pinned while the project is generated
+     */
+    @NonNull public VersionCatalog getVersionCatalog() {
+        return versionCatalog;
+    }
+
     /**
      * Adds a template.
      * @param name The name of the template
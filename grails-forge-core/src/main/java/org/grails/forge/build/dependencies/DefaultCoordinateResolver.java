@@ -19,7 +19,6 @@ import io.micronaut.context.annotation.Primary;
 import io.micronaut.core.annotation.NonNull;
 import jakarta.inject.Singleton;
 
-import java.util.Arrays;
 import java.util.Optional;
 
 @Singleton
@@ -34,10 +33,12 @@ public class DefaultCoordinateResolver implements CoordinateResolver {
 
     @NonNull
     public Optional<Coordinate> resolve(@NonNull String artifactId) {
-        return Arrays.stream(coordinateResolvers)
-                .map(resolver -> resolver.resolve(artifactId))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .findFirst();
+        for (CoordinateResolver resolver : coordinateResolvers) {
+            Optional<Coordinate> coordinate = resolver.resolve(artifactId);
+            if (coordinate.isPresent()) {
+                return coordinate;
+            }
+        }
+        return Optional.empty();
     }
 }
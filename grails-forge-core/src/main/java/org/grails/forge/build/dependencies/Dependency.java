@@ -18,11 +18,17 @@ package org.grails.forge.build.dependencies;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import org.grails.forge.template.Writable;
+import org.grails.forge.util.LruCache;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 public final class Dependency {
 
+    private static final int MAX_RESOLVED_DEPENDENCIES = 1024;
+    private static final LruCache<List<Object>, Dependency> RESOLVED_DEPENDENCIES = new LruCache<>(MAX_RESOLVED_DEPENDENCIES);
+
     private final Scope scope;
     private final String groupId;
     private final String artifactId;
@@ -106,8 +112,16 @@ public final class Dependency {
         return requiresLookup;
     }
 
+    /**
+     * Resolved dependencies only carry values, so equal resolutions share a single instance across generations.
+     *
+     * @param coordinate The resolved coordinate
+     * @return The resolved dependency
+     */
     public Dependency resolved(Coordinate coordinate) {
-        return new Dependency(
+        List<Object> key = Arrays.asList(scope, coordinate.getGroupId(), artifactId, coordinate.getVersion(),
+                annotationProcessorPriority, order, coordinate.isPom());
+        return RESOLVED_DEPENDENCIES.computeIfAbsent(key, k -> new Dependency(
                 scope,
                 coordinate.getGroupId(),
                 artifactId,
@@ -116,7 +130,7 @@ public final class Dependency {
                 false,
                 annotationProcessorPriority,
                 order,
-                coordinate.isPom());
+                coordinate.isPom()));
     }
 
     public Dependency scope(Scope newScope) {
@@ -19,6 +19,9 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.io.ResourceResolver;
 import io.micronaut.core.util.StringUtils;
 import jakarta.inject.Singleton;
+import org.grails.forge.util.VersionCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -27,21 +30,110 @@ import org.xml.sax.SAXException;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * Resolves the coordinates declared in the features {@code pom.xml}. The build writes them to
+ * {@link #COORDINATES_RESOURCE} so they are normally loaded without parsing XML; the pom is
+ * only parsed when that table is not on the classpath. The coordinates are held by the
+ * {@link VersionCatalog}, so they follow catalog reloads.
+ */
 @Singleton
 public class PomDependencyVersionResolver implements CoordinateResolver {
 
+    /**
+     * The coordinates table generated from the pom at build time.
+     */
+    public static final String COORDINATES_RESOURCE = "META-INF/grails-forge/dependency-coordinates.txt";
+
+    private static final Logger LOG = LoggerFactory.getLogger(PomDependencyVersionResolver.class);
     private static final String NODE_NAME_TEXT = "#text";
-    private final Map<String, Coordinate> coordinates;
 
     public PomDependencyVersionResolver(ResourceResolver resourceResolver) {
+        VersionCatalog.initialize(resourceResolver);
+    }
+
+    @Override
+    @NonNull
+    public Optional<Coordinate> resolve(@NonNull String artifactId) {
+        return Optional.ofNullable(VersionCatalog.current().getCoordinates().get(artifactId));
+    }
+
+    @NonNull
+    public Map<String, Coordinate> getCoordinates() {
+        return VersionCatalog.current().getCoordinates();
+    }
+
+    /**
+     * Loads the coordinates from the generated table, or from the pom when the table is absent.
+     *
+     * @param resourceResolver The resource resolver
+     * @return The coordinates by artifact id
+     */
+    @NonNull
+    public static Map<String, Coordinate> loadCoordinates(@NonNull ResourceResolver resourceResolver) {
+        return resourceResolver.getResourceAsStream("classpath:" + COORDINATES_RESOURCE)
+                .flatMap(PomDependencyVersionResolver::readTable)
+                .orElseGet(() -> parsePoms(resourceResolver));
+    }
+
+    /**
+     * Reads a coordinates table with one {@code groupId:artifactId:version:type} line per dependency.
+     *
+     * @param reader The reader
+     * @return The coordinates by artifact id
+     * @throws IOException If the table cannot be read
+     */
+    @NonNull
+    public static Map<String, Coordinate> readTable(@NonNull Reader reader) throws IOException {
+        Map<String, Coordinate> coordinates = new HashMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            String[] parts = line.split(":", -1);
+            if (parts.length != 4) {
+                continue;
+            }
+            DependencyCoordinate dependencyCoordinate = Dependency.builder()
+                    .groupId(parts[0])
+                    .artifactId(parts[1])
+                    .version(parts[2].isEmpty() ? null : parts[2])
+                    .pom("pom".equals(parts[3]))
+                    .buildCoordinate();
+            coordinates.put(dependencyCoordinate.getArtifactId(), dependencyCoordinate);
+        }
+        return coordinates;
+    }
+
+    private static Optional<Map<String, Coordinate>> readTable(InputStream inputStream) {
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return Optional.of(readTable(reader));
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Failed to read " + COORDINATES_RESOURCE + ", parsing the features pom instead", e);
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses every {@code pom.xml} on the classpath, used when the generated table is absent.
+     *
+     * @param resourceResolver The resource resolver
+     * @return The coordinates by artifact id
+     */
+    @NonNull
+    static Map<String, Coordinate> parsePoms(@NonNull ResourceResolver resourceResolver) {
         Map<String, Coordinate> coordinates = new HashMap<>();
         for (URL url : resourceResolver.getResources("classpath:pom.xml").collect(Collectors.toList())) {
             try {
@@ -94,13 +186,7 @@ public class PomDependencyVersionResolver implements CoordinateResolver {
                 e.printStackTrace();
             }
         }
-        this.coordinates = coordinates;
-    }
-
-    @Override
-    @NonNull
-    public Optional<Coordinate> resolve(@NonNull String artifactId) {
-        return Optional.ofNullable(coordinates.get(artifactId));
+        return coordinates;
     }
 
     private static Document documentFor(@NonNull InputStream inputStream)
@@ -111,7 +197,7 @@ public class PomDependencyVersionResolver implements CoordinateResolver {
     }
 
     @NonNull
-    private Optional<String> valueOfNode(@NonNull Node node) {
+    private static Optional<String> valueOfNode(@NonNull Node node) {
         NodeList children = node.getChildNodes();
         for (int i = 0; i < children.getLength(); i++) {
             Node child = children.item(i);
@@ -121,9 +207,4 @@ public class PomDependencyVersionResolver implements CoordinateResolver {
         }
         return Optional.empty();
     }
-
-    @NonNull
-    public Map<String, Coordinate> getCoordinates() {
-        return coordinates;
-    }
 }
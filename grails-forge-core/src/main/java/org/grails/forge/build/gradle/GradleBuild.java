@@ -23,21 +23,34 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+/**
+ * The model rendered by the Gradle build templates. The dependencies and plugins are partitioned
+ * once when the model is created, and the extensions are rendered at most once, so the templates
+ * can query the model repeatedly without recomputing anything.
+ */
 public class GradleBuild {
     private static final Logger LOG = LoggerFactory.getLogger(GradleBuild.class);
 
     private final GradleDsl dsl;
     private final List<GradleDependency> dependencies;
     private final List<GradleDependency> buildscriptDependencies;
+    private final List<GradleDependency> classpathDependencies;
+    private final List<GradleDependency> buildSrcDependencies;
     private final List<GradlePlugin> plugins;
+    private final List<GradlePlugin> pluginsWithVersion;
+    private final List<GradlePlugin> pluginsWithoutApply;
+    private final List<GradlePlugin> pluginsWithApply;
+    private final Set<String> pluginsImports;
+    private final List<Writable> extensions;
+    private final List<Writable> settingsExtensions;
+    private String renderedExtensions;
+    private String renderedSettingsExtensions;
 
     public GradleBuild() {
         this(GradleDsl.GROOVY, Collections.emptyList(), Collections.emptyList());
@@ -57,6 +70,57 @@ public class GradleBuild {
         this.dependencies = dependencies;
         this.buildscriptDependencies = buildscriptDependencies;
         this.plugins = plugins;
+
+        List<GradleDependency> classpath = new ArrayList<>();
+        List<GradleDependency> buildSrc = new ArrayList<>();
+        List<Writable> extensions = new ArrayList<>();
+        for (GradleDependency dependency : buildscriptDependencies) {
+            if (dependency.getConfiguration().equals(GradleConfiguration.CLASSPATH)) {
+                classpath.add(dependency);
+            } else {
+                buildSrc.add(dependency);
+            }
+            if (dependency.getExtension() != null) {
+                extensions.add(dependency.getExtension());
+            }
+        }
+
+        List<GradlePlugin> withVersion = new ArrayList<>();
+        List<GradlePlugin> withoutApply = new ArrayList<>();
+        List<GradlePlugin> withApply = new ArrayList<>();
+        List<Writable> settingsExtensions = new ArrayList<>();
+        Set<String> imports = new HashSet<>();
+        for (GradlePlugin plugin : plugins) {
+            if (plugin.getVersion() != null) {
+                withVersion.add(plugin);
+            }
+            if (plugin.useApplyPlugin()) {
+                withApply.add(plugin);
+            } else {
+                withoutApply.add(plugin);
+            }
+            if (plugin.getExtension() != null) {
+                extensions.add(plugin.getExtension());
+            }
+            if (plugin.getSettingsExtension() != null) {
+                settingsExtensions.add(plugin.getSettingsExtension());
+            }
+            Set<String> pluginImports = plugin.getBuildImports();
+            if (pluginImports != null) {
+                for (String pluginImport : pluginImports) {
+                    imports.add(pluginImport + System.lineSeparator());
+                }
+            }
+        }
+
+        this.classpathDependencies = Collections.unmodifiableList(classpath);
+        this.buildSrcDependencies = Collections.unmodifiableList(buildSrc);
+        this.pluginsWithVersion = Collections.unmodifiableList(withVersion);
+        this.pluginsWithoutApply = Collections.unmodifiableList(withoutApply);
+        this.pluginsWithApply = Collections.unmodifiableList(withApply);
+        this.pluginsImports = Collections.unmodifiableSet(imports);
+        this.extensions = extensions;
+        this.settingsExtensions = settingsExtensions;
     }
 
     @NonNull
@@ -71,12 +135,12 @@ public class GradleBuild {
 
     @NonNull
     public List<GradleDependency> getBuildSrcDependencies() {
-        return buildscriptDependencies.stream().filter(gradleDependency -> !gradleDependency.getConfiguration().equals(GradleConfiguration.CLASSPATH)).collect(Collectors.toList());
+        return buildSrcDependencies;
     }
 
     @NonNull
     public List<GradleDependency> getBuildscriptDependencies() {
-        return buildscriptDependencies.stream().filter(gradleDependency -> gradleDependency.getConfiguration().equals(GradleConfiguration.CLASSPATH)).collect(Collectors.toList());
+        return classpathDependencies;
     }
 
     @NonNull
@@ -91,58 +155,61 @@ public class GradleBuild {
 
     @NonNull
     public List<GradlePlugin> getPluginsWithVersion() {
-        return plugins.stream().filter(plugin -> plugin.getVersion() != null).collect(Collectors.toList());
+        return pluginsWithVersion;
     }
 
     @NonNull
     public List<GradlePlugin> getPluginsWithoutApply() {
-        return plugins.stream().filter(plugin -> !plugin.useApplyPlugin()).collect(Collectors.toList());
+        return pluginsWithoutApply;
     }
 
     @NonNull
     public List<GradlePlugin> getPluginsWithApply() {
-        return plugins.stream().filter(plugin -> plugin.useApplyPlugin()).collect(Collectors.toList());
+        return pluginsWithApply;
     }
 
     @NonNull
     public String renderExtensions() {
-        return renderWritableExtensions(Stream.concat(
-                buildscriptDependencies.stream().map(GradleDependency::getExtension).filter(Objects::nonNull),
-                plugins.stream().map(GradlePlugin::getExtension)));
+        String rendered = renderedExtensions;
+        if (rendered == null) {
+            rendered = renderWritableExtensions(extensions);
+            renderedExtensions = rendered;
+        }
+        return rendered;
     }
 
     @NonNull
     public String renderSettingsExtensions() {
-        return renderWritableExtensions(plugins.stream().map(GradlePlugin::getSettingsExtension));
+        String rendered = renderedSettingsExtensions;
+        if (rendered == null) {
+            rendered = renderWritableExtensions(settingsExtensions);
+            renderedSettingsExtensions = rendered;
+        }
+        return rendered;
     }
 
     @NonNull
-    private String renderWritableExtensions(Stream<Writable> extensions) {
+    private static String renderWritableExtensions(List<Writable> extensions) {
+        if (extensions.isEmpty()) {
+            return "";
+        }
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        extensions
-                .filter(Objects::nonNull)
-                .forEach(writable -> {
-                    try {
-                        writable.write(outputStream);
-                        outputStream.write(System.lineSeparator().getBytes(StandardCharsets.UTF_8));
-                    } catch (IOException e) {
-                        if (LOG.isErrorEnabled()) {
-                            LOG.error("IO Exception rendering Gradle Plugin extension");
-                        }
-                    }
-                });
+        byte[] lineSeparator = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+        for (Writable writable : extensions) {
+            try {
+                writable.write(outputStream);
+                outputStream.write(lineSeparator);
+            } catch (IOException e) {
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("IO Exception rendering Gradle Plugin extension");
+                }
+            }
+        }
         return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
     }
 
     @NonNull
     public Set<String> getPluginsImports() {
-        Set<String> imports = new HashSet<>();
-        for (GradlePlugin p : plugins) {
-            Set<String> pluginImports = p.getBuildImports();
-            if (pluginImports != null) {
-                imports.addAll(pluginImports);
-            }
-        }
-        return imports.stream().map(it -> it + System.lineSeparator()).collect(Collectors.toSet());
+        return pluginsImports;
     }
 }
@@ -19,14 +19,21 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.order.OrderUtil;
 import jakarta.inject.Singleton;
 import org.grails.forge.application.generator.GeneratorContext;
+import org.grails.forge.build.dependencies.Dependency;
 import org.grails.forge.options.BuildTool;
+import org.grails.forge.util.LruCache;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Singleton
 public class GradleBuildCreator {
 
+    private static final int MAX_CACHED_DEPENDENCIES = 1024;
+
+    private final LruCache<List<Object>, GradleDependency> gradleDependencies = new LruCache<>(MAX_CACHED_DEPENDENCIES);
+
     @NonNull
     public GradleBuild create(@NonNull GeneratorContext generatorContext) {
         GradleDsl gradleDsl = BuildTool.DEFAULT_OPTION
@@ -45,7 +52,7 @@ public class GradleBuildCreator {
     private List<GradleDependency> resolveDependencies(@NonNull GeneratorContext generatorContext) {
         return generatorContext.getDependencies()
                 .stream()
-                .map(dep -> new GradleDependency(dep, generatorContext))
+                .map(dep -> toGradleDependency(dep, generatorContext))
                 .sorted(GradleDependency.COMPARATOR)
                 .collect(Collectors.toList());
     }
@@ -54,8 +61,19 @@ public class GradleBuildCreator {
     private List<GradleDependency> resolveBuildscriptDependencies(@NonNull GeneratorContext generatorContext) {
         return generatorContext.getBuildscriptDependencies()
                 .stream()
-                .map(dep -> new GradleDependency(dep, generatorContext))
+                .map(dep -> toGradleDependency(dep, generatorContext))
                 .sorted(GradleDependency.COMPARATOR)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Gradle dependencies without an extension are derived only from the dependency values and the test framework,
+     * so each distinct rendering is created once and shared across generations.
+     */
+    @NonNull
+    private GradleDependency toGradleDependency(@NonNull Dependency dependency, @NonNull GeneratorContext generatorContext) {
+        List<Object> key = Arrays.asList(dependency.getScope(), dependency.getGroupId(), dependency.getArtifactId(),
+                dependency.getVersion(), dependency.getOrder(), dependency.isPom(), generatorContext.getTestFramework());
+        return gradleDependencies.computeIfAbsent(key, k -> new GradleDependency(dependency, generatorContext));
+    }
 }
@@ -49,6 +49,8 @@ public class GradleDependency extends DependencyCoordinate {
     @NonNull
     private final GradleConfiguration gradleConfiguration;
 
+    private String snippet;
+
     public GradleDependency(@NonNull Dependency dependency,
                             @NonNull GeneratorContext generatorContext) {
         this(dependency, generatorContext, null);
@@ -101,6 +103,16 @@ public class GradleDependency extends DependencyCoordinate {
 
     @NonNull
     public String toSnippet() {
+        String snippet = this.snippet;
+        if (snippet == null) {
+            snippet = createSnippet();
+            this.snippet = snippet;
+        }
+        return snippet;
+    }
+
+    @NonNull
+    private String createSnippet() {
         String optionalSpace = gradleConfiguration == INTEGRATION_TEST_IMPLEMENTATION_TEST_FIXTURES ? "" : " ";
         String snippet = gradleConfiguration.getConfigurationName() + optionalSpace;
         if (isPom()) {
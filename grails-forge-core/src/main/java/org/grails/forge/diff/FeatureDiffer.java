@@ -15,9 +15,6 @@
  */
 package org.grails.forge.diff;
 
-import com.github.difflib.DiffUtils;
-import com.github.difflib.UnifiedDiffUtils;
-import com.github.difflib.patch.Patch;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Singleton;
 import org.grails.forge.application.ApplicationType;
@@ -28,14 +25,22 @@ import org.grails.forge.application.generator.ProjectGenerator;
 import org.grails.forge.io.ConsoleOutput;
 import org.grails.forge.io.MapOutputHandler;
 import org.grails.forge.options.Options;
+import org.grails.forge.util.LruCache;
+import org.grails.forge.util.VersionCatalog;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
- * Methods for diffing projects and features.
+ * Methods for diffing projects and features. The project generated without features and the
+ * complete diffs are cached by the inputs they depend on and the version catalog revision.
+ * The inputs include the requested project name, so only the most recently used entries are kept.
  *
  * @since 6.0.0
  * @author jameskleeh
@@ -44,6 +49,13 @@ import java.util.Map;
 @Singleton
 public class FeatureDiffer {
 
+    private static final int MAX_CACHED_BASELINES = 64;
+    private static final int MAX_CACHED_DIFFS = 256;
+
+    private final LruCache<List<Object>, Map<String, String>> baselines = new LruCache<>(MAX_CACHED_BASELINES);
+    private final LruCache<List<Object>, List<FileDiff>> diffs = new LruCache<>(MAX_CACHED_DIFFS);
+    private final AtomicLong cacheRevision = new AtomicLong();
+
     /**
      * Produces a Diff for the given arguments.
      * @param projectGenerator The project generator
@@ -86,45 +98,11 @@ public class FeatureDiffer {
             ProjectGenerator projectGenerator,
             GeneratorContext generatorContext,
             ConsoleOutput consoleOutput) throws Exception {
-        MapOutputHandler outputHandler = new MapOutputHandler();
-        Project project = generatorContext.getProject();
-        ApplicationType applicationType = generatorContext.getApplicationType();
-        projectGenerator.generate(
-                applicationType,
-                project,
-                new Options(generatorContext.getTestFramework(), generatorContext.getJdkVersion()),
-                generatorContext.getOperatingSystem(),
-                Collections.emptyList(),
-                outputHandler,
-                ConsoleOutput.NOOP
-        );
-        Map<String, String> oldProject = outputHandler.getProject();
-
-        outputHandler = new MapOutputHandler();
-        projectGenerator.generate(
-                applicationType,
-                project,
-                outputHandler,
-                generatorContext
-        );
-        Map<String, String> newProject = outputHandler.getProject();
-
-        for (Map.Entry<String, String> entry: newProject.entrySet()) {
-            String oldFile = oldProject.remove(entry.getKey());
-
-            if (entry.getValue() == null) {
-                continue;
-            }
-
-            List<String> oldFileLines = oldFile == null ? Collections.emptyList() : toLines(oldFile);
-
-            String newFile = entry.getValue();
-            List<String> newFileLines = toLines(newFile);
-
-            Patch<String> diff = DiffUtils.diff(oldFileLines, newFileLines);
-            List<String> unifiedDiff = UnifiedDiffUtils
-                    .generateUnifiedDiff(entry.getKey(), entry.getKey(), oldFileLines, diff, 3);
-
+        // a parallel stream keeps the encounter order, so the output is the same as a sequential one
+        List<List<String>> diffs = diffFiles(projectGenerator, generatorContext).parallelStream()
+                .map(FileDiff::getDeltas)
+                .collect(Collectors.toList());
+        for (List<String> unifiedDiff : diffs) {
             if (!unifiedDiff.isEmpty()) {
                 for (String delta : unifiedDiff) {
                     if (delta.startsWith("+")) {
@@ -138,31 +116,100 @@ public class FeatureDiffer {
                 consoleOutput.out("\n");
             }
         }
+    }
 
-        for (Map.Entry<String, String> entry: oldProject.entrySet()) {
-            if (entry.getValue() == null) {
-                continue;
+    /**
+     * Lists the files that differ from the project generated without features, the files of the
+     * generated project first. Files with the same contents are left out, and the unified diff of
+     * each file is only computed when it is requested, so the files can be diffed in parallel.
+     * @param projectGenerator The project generator
+     * @param generatorContext The generator context
+     * @return The files that differ
+     * @throws Exception If something does wrong
+     */
+    public List<FileDiff> diffFiles(
+            ProjectGenerator projectGenerator,
+            GeneratorContext generatorContext) throws Exception {
+        long revision = generatorContext.getVersionCatalog().getRevision();
+        if (cacheRevision.getAndSet(revision) != revision) {
+            // output generated with another catalog is no longer requested once a new one is in use
+            baselines.clear();
+            diffs.clear();
+        }
+        Project project = generatorContext.getProject();
+        List<Object> baselineKey = Arrays.asList(
+                projectGenerator,
+                generatorContext.getApplicationType(),
+                project.getPackageName(),
+                project.getName(),
+                generatorContext.getTestFramework(),
+                generatorContext.getJdkVersion(),
+                generatorContext.getOperatingSystem(),
+                revision);
+        List<Object> diffKey = new ArrayList<>(baselineKey);
+        diffKey.add(generatorContext.getGorm());
+        diffKey.add(generatorContext.getServlet());
+        diffKey.add(new ArrayList<>(new TreeSet<>(generatorContext.getFeatures())));
+
+        List<FileDiff> diff = diffs.get(diffKey);
+        if (diff == null) {
+            Map<String, String> baseline = baselines.get(baselineKey);
+            if (baseline == null) {
+                baseline = baselines.putIfAbsent(baselineKey, generateBaseline(projectGenerator, generatorContext));
             }
-            List<String> oldFileLines = toLines(entry.getValue());
-            Patch<String> diff = DiffUtils.diff(oldFileLines, Collections.emptyList());
-            List<String> unifiedDiff = UnifiedDiffUtils.generateUnifiedDiff(entry.getKey(), entry.getKey(), oldFileLines, diff, 3);
+            diff = diffs.putIfAbsent(diffKey, diffFiles(projectGenerator, generatorContext, baseline));
+        }
+        return diff;
+    }
 
-            if (!unifiedDiff.isEmpty()) {
-                for (String delta : unifiedDiff) {
-                    if (delta.startsWith("+")) {
-                        consoleOutput.green(delta);
-                    } else if (delta.startsWith("-")) {
-                        consoleOutput.red(delta);
-                    } else {
-                        consoleOutput.out(delta);
-                    }
-                }
-                consoleOutput.out("\n");
-            }
+    /**
+     * Generates the project without any features, which only depends on the type, the project,
+     * the test framework, the JDK version and the operating system.
+     */
+    private Map<String, String> generateBaseline(ProjectGenerator projectGenerator, GeneratorContext generatorContext) throws Exception {
+        MapOutputHandler outputHandler = new MapOutputHandler();
+        try (VersionCatalog.Pin ignored = VersionCatalog.pin(generatorContext.getVersionCatalog())) {
+            projectGenerator.generate(
+                    generatorContext.getApplicationType(),
+                    generatorContext.getProject(),
+                    new Options(generatorContext.getTestFramework(), generatorContext.getJdkVersion()),
+                    generatorContext.getOperatingSystem(),
+                    Collections.emptyList(),
+                    outputHandler,
+                    ConsoleOutput.NOOP
+            );
         }
+        return Collections.unmodifiableMap(outputHandler.getProject());
     }
 
-    private List<String> toLines(String file) {
-        return Arrays.asList(file.split("\n"));
+    private List<FileDiff> diffFiles(ProjectGenerator projectGenerator, GeneratorContext generatorContext, Map<String, String> oldProject) throws Exception {
+        MapOutputHandler outputHandler = new MapOutputHandler();
+        projectGenerator.generate(
+                generatorContext.getApplicationType(),
+                generatorContext.getProject(),
+                outputHandler,
+                generatorContext
+        );
+        Map<String, String> newProject = outputHandler.getProject();
+
+        List<FileDiff> files = new ArrayList<>();
+        for (Map.Entry<String, String> entry: newProject.entrySet()) {
+            String newFile = entry.getValue();
+            if (newFile == null) {
+                continue;
+            }
+            String oldFile = oldProject.get(entry.getKey());
+            if (!newFile.equals(oldFile)) {
+                files.add(new FileDiff(entry.getKey(), oldFile, newFile));
+            }
+        }
+
+        for (Map.Entry<String, String> entry: oldProject.entrySet()) {
+            if (entry.getValue() == null || newProject.containsKey(entry.getKey())) {
+                continue;
+            }
+            files.add(new FileDiff(entry.getKey(), entry.getValue(), null));
+        }
+        return Collections.unmodifiableList(files);
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.diff;
+
+import com.github.difflib.DiffUtils;
+import com.github.difflib.UnifiedDiffUtils;
+import com.github.difflib.patch.Patch;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A file that differs between two generated projects. The unified diff is computed on first
+ * access, which is safe from any thread, and the file contents are released afterwards.
+ *
+ * @since 7.0.0
+ */
+public final class FileDiff {
+
+    private static final int CONTEXT_SIZE = 3;
+
+    private final String path;
+    private String oldContent;
+    private String newContent;
+    private volatile List<String> deltas;
+
+    /**
+     * @param path       The path of the file
+     * @param oldContent The old contents, null if the file was added
+     * @param newContent The new contents, null if the file was removed
+     */
+    FileDiff(@NonNull String path, @Nullable String oldContent, @Nullable String newContent) {
+        this.path = path;
+        this.oldContent = oldContent;
+        this.newContent = newContent;
+    }
+
+    /**
+     * @return The path of the file
+     */
+    @NonNull
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return The lines of the unified diff
+     */
+    @NonNull
+    public List<String> getDeltas() {
+        List<String> result = deltas;
+        if (result == null) {
+            synchronized (this) {
+                result = deltas;
+                if (result == null) {
+                    List<String> oldLines = toLines(oldContent);
+                    Patch<String> patch = DiffUtils.diff(oldLines, toLines(newContent));
+                    result = Collections.unmodifiableList(UnifiedDiffUtils.generateUnifiedDiff(path, path, oldLines, patch, CONTEXT_SIZE));
+                    deltas = result;
+                    oldContent = null;
+                    newContent = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<String> toLines(@Nullable String file) {
+        return file == null ? Collections.emptyList() : Arrays.asList(file.split("\n"));
+    }
+}
@@ -17,7 +17,9 @@ package org.grails.forge.feature;
 
 import io.micronaut.core.annotation.NonNull;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public interface AvailableFeatures extends Iterable<String> {
@@ -29,4 +31,53 @@ public interface AvailableFeatures extends Iterable<String> {
     Stream<Feature> getFeatures();
 
     Stream<Feature> getAllFeatures();
+
+    /**
+     * @param type The feature type
+     * @param <T>  The feature type
+     * @return The features of the given type, without instantiating features of other types
+     */
+    default <T extends Feature> Stream<T> getAllFeatures(@NonNull Class<T> type) {
+        return getAllFeatures().filter(type::isInstance).map(type::cast);
+    }
+
+    /**
+     * @param feature The feature
+     * @return The dense id of the feature, or -1 if it is not registered
+     */
+    int getFeatureId(@NonNull Feature feature);
+
+    /**
+     * @param features The features
+     * @return The set of the features ids
+     * @throws IllegalArgumentException If a feature is not registered
+     */
+    @NonNull
+    FeatureSet toFeatureSet(@NonNull Iterable<? extends Feature> features);
+
+    /**
+     * @param featureSet The set of feature ids
+     * @return The features in id order
+     */
+    @NonNull
+    List<Feature> toFeatures(@NonNull FeatureSet featureSet);
+
+    /**
+     * The predicate is evaluated against the metadata, so no feature is instantiated.
+     *
+     * @param predicate The predicate
+     * @return The ids of every registered feature matching the predicate, including ones that
+     * do not support the application type
+     */
+    @NonNull
+    FeatureSet getFeatureSet(@NonNull Predicate<? super FeatureMetadata> predicate);
+
+    /**
+     * Matches the registered feature classes, so no feature is instantiated.
+     *
+     * @param type The feature type
+     * @return The ids of every registered feature of the given type
+     */
+    @NonNull
+    FeatureSet getFeatureSet(@NonNull Class<?> type);
 }
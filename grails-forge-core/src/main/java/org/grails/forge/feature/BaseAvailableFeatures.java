@@ -15,37 +15,75 @@
  */
 package org.grails.forge.feature;
 
+import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.order.OrderUtil;
+import io.micronaut.inject.BeanDefinition;
 import org.grails.forge.application.ApplicationType;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+/**
+ * The features available to an application type. When created from the {@link BeanContext} with the
+ * {@link FeatureMetadataIndex} on the classpath, names, visibility and types are answered from the
+ * index and each feature bean is only instantiated when it is first needed.
+ */
 public class BaseAvailableFeatures implements AvailableFeatures {
-    private final Map<String, Feature> features;
+    private final Map<String, Integer> features;
+    private final FeatureMetadata[] metadataById;
+    private final Class<?>[] typesById;
+    private final Map<Class<?>, int[]> idsByType;
+    private final AtomicReferenceArray<Feature> featuresById;
+    private final IntFunction<Feature> resolver;
 
     public BaseAvailableFeatures(List<Feature> features, ApplicationType applicationType) {
-        this.features = features.stream()
-                .filter(f -> f.supports(applicationType))
-                .collect(Collectors.toMap(
-                        Feature::getName,
-                        Function.identity(),
-                        (u, v) -> {
-                            throw new IllegalArgumentException("Duplicate feature found " + u.getName());
-                        },
-                        LinkedHashMap::new));
+        this(Registrations.of(features), applicationType);
+    }
+
+    /**
+     * @param beanContext     The bean context to resolve the features from
+     * @param applicationType The application type
+     * @since 7.0.0
+     */
+    public BaseAvailableFeatures(BeanContext beanContext, ApplicationType applicationType) {
+        this(Registrations.of(beanContext), applicationType);
+    }
+
+    private BaseAvailableFeatures(Registrations registrations, ApplicationType applicationType) {
+        // every feature gets an id, including ones added by other features that don't support the type
+        this.metadataById = registrations.metadata.toArray(new FeatureMetadata[0]);
+        this.typesById = registrations.types.toArray(new Class<?>[0]);
+        this.featuresById = new AtomicReferenceArray<>(metadataById.length);
+        this.resolver = registrations.resolver;
+        this.idsByType = new HashMap<>(typesById.length);
+        this.features = new LinkedHashMap<>();
+        for (int i = 0; i < metadataById.length; i++) {
+            // a type is only registered more than once when features are passed in as instances
+            int[] ids = idsByType.get(typesById[i]);
+            idsByType.put(typesById[i], ids == null ? new int[] {i} : append(ids, i));
+            FeatureMetadata metadata = metadataById[i];
+            if (metadata.supports(applicationType) && features.putIfAbsent(metadata.getName(), i) != null) {
+                throw new IllegalArgumentException("Duplicate feature found " + metadata.getName());
+            }
+        }
     }
 
     @Override
     public Iterator<String> iterator() {
-        return getFeatures()
-                .map(Feature::getName)
+        return features.entrySet().stream()
+                .filter(entry -> metadataById[entry.getValue()].isVisible())
+                .map(Map.Entry::getKey)
                 .iterator();
     }
 
@@ -56,10 +94,10 @@ public class BaseAvailableFeatures implements AvailableFeatures {
 
     @Override
     public Optional<Feature> findFeature(@NonNull String name, boolean ignoreVisibility) {
-        Feature feature = features.get(name);
-        if (feature != null) {
-            if (ignoreVisibility || feature.isVisible()) {
-                return Optional.of(feature);
+        Integer id = features.get(name);
+        if (id != null) {
+            if (ignoreVisibility || metadataById[id].isVisible()) {
+                return Optional.of(resolve(id));
             }
         }
         return Optional.empty();
@@ -67,11 +105,142 @@ public class BaseAvailableFeatures implements AvailableFeatures {
 
     @Override
     public Stream<Feature> getFeatures() {
-        return getAllFeatures().filter(Feature::isVisible);
+        return features.values().stream()
+                .filter(id -> metadataById[id].isVisible())
+                .map(this::resolve);
     }
 
     @Override
     public Stream<Feature> getAllFeatures() {
-        return features.values().stream();
+        return features.values().stream().map(this::resolve);
+    }
+
+    @Override
+    public <T extends Feature> Stream<T> getAllFeatures(@NonNull Class<T> type) {
+        return features.values().stream()
+                .filter(id -> type.isAssignableFrom(typesById[id]))
+                .map(id -> type.cast(resolve(id)));
+    }
+
+    @Override
+    public int getFeatureId(@NonNull Feature feature) {
+        int[] ids = idsByType.get(feature.getClass());
+        if (ids != null) {
+            for (int id : ids) {
+                if (resolve(id) == feature) {
+                    return id;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @NonNull
+    public FeatureSet toFeatureSet(@NonNull Iterable<? extends Feature> features) {
+        FeatureSet.Builder builder = FeatureSet.builder();
+        for (Feature feature : features) {
+            int id = getFeatureId(feature);
+            if (id == -1) {
+                throw new IllegalArgumentException("The feature is not registered: " + feature.getName());
+            }
+            builder.add(id);
+        }
+        return builder.build();
+    }
+
+    @Override
+    @NonNull
+    public List<Feature> toFeatures(@NonNull FeatureSet featureSet) {
+        List<Feature> result = new ArrayList<>(featureSet.size());
+        featureSet.forEach(id -> result.add(resolve(id)));
+        return result;
+    }
+
+    @Override
+    @NonNull
+    public FeatureSet getFeatureSet(@NonNull Predicate<? super FeatureMetadata> predicate) {
+        FeatureSet.Builder builder = FeatureSet.builder();
+        for (int i = 0; i < metadataById.length; i++) {
+            if (predicate.test(metadataById[i])) {
+                builder.add(i);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    @NonNull
+    public FeatureSet getFeatureSet(@NonNull Class<?> type) {
+        FeatureSet.Builder builder = FeatureSet.builder();
+        for (int i = 0; i < typesById.length; i++) {
+            if (type.isAssignableFrom(typesById[i])) {
+                builder.add(i);
+            }
+        }
+        return builder.build();
+    }
+
+    private static int[] append(int[] ids, int id) {
+        int[] result = Arrays.copyOf(ids, ids.length + 1);
+        result[ids.length] = id;
+        return result;
+    }
+
+    private Feature resolve(int id) {
+        Feature feature = featuresById.get(id);
+        if (feature == null) {
+            feature = resolver.apply(id);
+            if (!featuresById.compareAndSet(id, null, feature)) {
+                feature = featuresById.get(id);
+            }
+        }
+        return feature;
+    }
+
+    /**
+     * The registered features, either already instantiated or as bean definitions matched with the index.
+     */
+    private static final class Registrations {
+
+        private final List<FeatureMetadata> metadata;
+        private final List<Class<?>> types;
+        private final IntFunction<Feature> resolver;
+
+        private Registrations(List<FeatureMetadata> metadata, List<Class<?>> types, IntFunction<Feature> resolver) {
+            this.metadata = metadata;
+            this.types = types;
+            this.resolver = resolver;
+        }
+
+        static Registrations of(List<Feature> features) {
+            List<FeatureMetadata> metadata = new ArrayList<>(features.size());
+            List<Class<?>> types = new ArrayList<>(features.size());
+            for (Feature feature : features) {
+                metadata.add(FeatureMetadata.of(feature));
+                types.add(feature.getClass());
+            }
+            return new Registrations(metadata, types, features::get);
+        }
+
+        static Registrations of(BeanContext beanContext) {
+            FeatureMetadataIndex index = FeatureMetadataIndex.getInstance().orElse(null);
+            List<BeanDefinition<Feature>> definitions = new ArrayList<>(beanContext.getBeanDefinitions(Feature.class));
+            List<FeatureMetadata> metadata = new ArrayList<>(definitions.size());
+            List<Class<?>> types = new ArrayList<>(definitions.size());
+            for (BeanDefinition<Feature> definition : definitions) {
+                Class<?> type = definition.getBeanType();
+                FeatureMetadata featureMetadata = index != null ? index.findFeatureByType(type.getName()).orElse(null) : null;
+                if (featureMetadata == null || types.contains(type)) {
+                    // not every feature is indexed, so the names are only known by instantiating them
+                    List<Feature> features = new ArrayList<>(beanContext.getBeansOfType(Feature.class));
+                    OrderUtil.sort(features);
+                    return of(features);
+                }
+                metadata.add(featureMetadata);
+                types.add(type);
+            }
+            return new Registrations(metadata, types, id -> beanContext.getBean(definitions.get(id)));
+        }
     }
 }
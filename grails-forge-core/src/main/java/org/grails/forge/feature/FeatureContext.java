@@ -35,15 +35,28 @@ public class FeatureContext {
     private final OperatingSystem operatingSystem;
     private final Set<Feature> selectedFeatures;
     private final Options options;
+    private final AvailableFeatures availableFeatures;
+    private final FeatureSet selectedFeatureSet;
     private final List<Feature> features = new ArrayList<>();
     private final List<FeaturePredicate> exclusions = new ArrayList<>();
+    private final FeatureTypeIndex presentFeatures = new FeatureTypeIndex();
     private ListIterator<Feature> iterator;
 
     public FeatureContext(Options options,
                           ApplicationType applicationType,
                           @Nullable OperatingSystem operatingSystem,
                           Set<Feature> selectedFeatures) {
+        this(options, applicationType, operatingSystem, selectedFeatures, null);
+    }
+
+    public FeatureContext(Options options,
+                          ApplicationType applicationType,
+                          @Nullable OperatingSystem operatingSystem,
+                          Set<Feature> selectedFeatures,
+                          @Nullable AvailableFeatures availableFeatures) {
         this.applicationType = applicationType;
+        this.availableFeatures = availableFeatures;
+        this.selectedFeatureSet = availableFeatures != null ? availableFeatures.toFeatureSet(selectedFeatures) : null;
         this.operatingSystem = operatingSystem;
         this.selectedFeatures = selectedFeatures;
         if (options.getTestFramework() == null) {
@@ -60,6 +73,7 @@ public class FeatureContext {
 
     public void processSelectedFeatures() {
         this.features.addAll(0, selectedFeatures);
+        selectedFeatures.forEach(this::index);
         this.features.sort(Comparator.comparingInt(Feature::getOrder));
         this.iterator = this.features.listIterator();
         while (iterator.hasNext()) {
@@ -71,6 +85,7 @@ public class FeatureContext {
 
     public void exclude(FeaturePredicate exclusion) {
         exclusions.add(exclusion);
+        presentFeatures.removeIf(exclusion);
     }
 
     public Set<Feature> getFinalFeatures(ConsoleOutput consoleOutput) {
@@ -110,6 +125,7 @@ public class FeatureContext {
         } else {
             features.add(feature);
         }
+        index(feature);
         feature.processSelectedFeatures(this);
     }
 
@@ -117,14 +133,36 @@ public class FeatureContext {
         return applicationType;
     }
 
+    /**
+     * @return The features the ids of feature sets refer to
+     */
+    @Nullable
+    public AvailableFeatures getAvailableFeatures() {
+        return availableFeatures;
+    }
+
+    /**
+     * @return The selected and default features as a feature set
+     */
+    @Nullable
+    public FeatureSet getSelectedFeatureSet() {
+        return selectedFeatureSet;
+    }
+
     public boolean isPresent(Class<? extends Feature> feature) {
-        return features.stream()
-                .filter(f -> exclusions.stream().noneMatch(e -> e.test(f)))
-                .map(Feature::getClass)
-                .anyMatch(feature::isAssignableFrom);
+        return presentFeatures.contains(feature);
     }
 
     public OperatingSystem getOperatingSystem() {
         return operatingSystem;
     }
+
+    private void index(Feature feature) {
+        for (FeaturePredicate exclusion : exclusions) {
+            if (exclusion.test(feature)) {
+                return;
+            }
+        }
+        presentFeatures.add(feature);
+    }
 }
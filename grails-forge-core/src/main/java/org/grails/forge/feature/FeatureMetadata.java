@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.feature;
+
+import io.micronaut.core.annotation.NonNull;
+import org.grails.forge.application.ApplicationType;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The descriptive properties of a {@link Feature}, available without instantiating the feature.
+ *
+ * @see FeatureMetadataIndex
+ * @since 7.0.0
+ */
+public final class FeatureMetadata {
+
+    private final String name;
+    private final String type;
+    private final String title;
+    private final String description;
+    private final String category;
+    private final boolean visible;
+    private final boolean preview;
+    private final boolean community;
+    private final boolean defaultFeature;
+    private final Set<ApplicationType> applicationTypes;
+
+    FeatureMetadata(String name,
+                    String type,
+                    String title,
+                    String description,
+                    String category,
+                    boolean visible,
+                    boolean preview,
+                    boolean community,
+                    boolean defaultFeature,
+                    Set<ApplicationType> applicationTypes) {
+        this.name = name;
+        this.type = type;
+        this.title = title;
+        this.description = description;
+        this.category = category;
+        this.visible = visible;
+        this.preview = preview;
+        this.community = community;
+        this.defaultFeature = defaultFeature;
+        this.applicationTypes = Collections.unmodifiableSet(applicationTypes);
+    }
+
+    /**
+     * @param feature The feature
+     * @return The metadata of the feature
+     */
+    @NonNull
+    public static FeatureMetadata of(@NonNull Feature feature) {
+        Set<ApplicationType> applicationTypes = EnumSet.noneOf(ApplicationType.class);
+        for (ApplicationType applicationType : ApplicationType.values()) {
+            if (feature.supports(applicationType)) {
+                applicationTypes.add(applicationType);
+            }
+        }
+        return new FeatureMetadata(feature.getName(),
+                feature.getClass().getName(),
+                feature.getTitle(),
+                feature.getDescription(),
+                feature.getCategory(),
+                feature.isVisible(),
+                feature.isPreview(),
+                feature.isCommunity(),
+                feature instanceof DefaultFeature,
+                applicationTypes);
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The name of the feature class
+     */
+    @NonNull
+    public String getType() {
+        return type;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public boolean isPreview() {
+        return preview;
+    }
+
+    public boolean isCommunity() {
+        return community;
+    }
+
+    /**
+     * @return Whether the feature is a {@link DefaultFeature}
+     */
+    public boolean isDefaultFeature() {
+        return defaultFeature;
+    }
+
+    /**
+     * @param applicationType The application type
+     * @return Whether the feature can be selected for the application type
+     * @see Feature#supports(ApplicationType)
+     */
+    public boolean supports(@NonNull ApplicationType applicationType) {
+        return applicationTypes.contains(applicationType);
+    }
+
+    /**
+     * @return The application types the feature can be selected for
+     */
+    @NonNull
+    public Set<ApplicationType> getApplicationTypes() {
+        return applicationTypes;
+    }
+}
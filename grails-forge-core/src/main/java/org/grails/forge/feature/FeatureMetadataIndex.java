@@ -0,0 +1,218 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.feature;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.NonNull;
+import org.grails.forge.application.ApplicationType;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * An index of the metadata of every {@link Feature}, generated at build time so features can be
+ * listed without instantiating the feature beans.
+ *
+ * @since 7.0.0
+ */
+public final class FeatureMetadataIndex {
+
+    /**
+     * The location of the index on the classpath.
+     */
+    public static final String RESOURCE = "META-INF/grails-forge/features.properties";
+
+    private static final String FEATURES = "features";
+
+    private final List<FeatureMetadata> features;
+    private final Map<String, FeatureMetadata> featuresByName = new HashMap<>();
+    private final Map<String, FeatureMetadata> featuresByType = new HashMap<>();
+
+    private FeatureMetadataIndex(List<FeatureMetadata> features) {
+        features.sort(Comparator.comparing(FeatureMetadata::getName).thenComparing(FeatureMetadata::getType));
+        this.features = Collections.unmodifiableList(features);
+        for (FeatureMetadata feature : features) {
+            featuresByName.putIfAbsent(feature.getName(), feature);
+            featuresByType.put(feature.getType(), feature);
+        }
+    }
+
+    /**
+     * @return The index generated at build time, if it is on the classpath
+     */
+    @NonNull
+    public static Optional<FeatureMetadataIndex> getInstance() {
+        return Optional.ofNullable(Holder.INSTANCE);
+    }
+
+    /**
+     * @return The metadata of every feature, ordered by name
+     */
+    @NonNull
+    public List<FeatureMetadata> getFeatures() {
+        return features;
+    }
+
+    /**
+     * @param name The feature name
+     * @return The metadata of the feature
+     */
+    @NonNull
+    public Optional<FeatureMetadata> findFeature(@NonNull String name) {
+        return Optional.ofNullable(featuresByName.get(name));
+    }
+
+    /**
+     * @param type The name of the feature class
+     * @return The metadata of the feature
+     */
+    @NonNull
+    public Optional<FeatureMetadata> findFeatureByType(@NonNull String type) {
+        return Optional.ofNullable(featuresByType.get(type));
+    }
+
+    /**
+     * Writes the index of every feature bean to the path given as the first argument.
+     *
+     * @param args The arguments
+     * @throws IOException If the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args[0]);
+        Files.createDirectories(path.getParent());
+        try (BeanContext beanContext = BeanContext.run();
+             OutputStream outputStream = Files.newOutputStream(path)) {
+            write(beanContext.getBeansOfType(Feature.class), outputStream);
+        }
+    }
+
+    static void write(Collection<Feature> features, OutputStream outputStream) throws IOException {
+        Properties properties = new Properties();
+        Set<String> types = new TreeSet<>();
+        for (Feature feature : features) {
+            FeatureMetadata metadata = FeatureMetadata.of(feature);
+            String prefix = metadata.getType() + ".";
+            types.add(metadata.getType());
+            properties.setProperty(prefix + "name", metadata.getName());
+            setProperty(properties, prefix + "title", metadata.getTitle());
+            setProperty(properties, prefix + "description", metadata.getDescription());
+            setProperty(properties, prefix + "category", metadata.getCategory());
+            properties.setProperty(prefix + "visible", String.valueOf(metadata.isVisible()));
+            properties.setProperty(prefix + "preview", String.valueOf(metadata.isPreview()));
+            properties.setProperty(prefix + "community", String.valueOf(metadata.isCommunity()));
+            properties.setProperty(prefix + "default", String.valueOf(metadata.isDefaultFeature()));
+            properties.setProperty(prefix + "types", metadata.getApplicationTypes().stream()
+                    .map(Enum::name)
+                    .collect(Collectors.joining(",")));
+        }
+        properties.setProperty(FEATURES, String.join(",", types));
+
+        // Properties#store writes a timestamp and hash ordered entries, sort them so the index is reproducible
+        StringWriter stored = new StringWriter();
+        properties.store(stored, null);
+        List<String> lines = new ArrayList<>();
+        for (String line : stored.toString().split("\\R")) {
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                lines.add(line);
+            }
+        }
+        Collections.sort(lines);
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            writer.write(line);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private static void setProperty(Properties properties, String key, String value) {
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+
+    static FeatureMetadataIndex read(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        List<FeatureMetadata> features = new ArrayList<>();
+        for (String type : properties.getProperty(FEATURES, "").split(",")) {
+            if (type.isEmpty()) {
+                continue;
+            }
+            String prefix = type + ".";
+            Set<ApplicationType> applicationTypes = EnumSet.noneOf(ApplicationType.class);
+            for (String applicationType : properties.getProperty(prefix + "types", "").split(",")) {
+                if (!applicationType.isEmpty()) {
+                    applicationTypes.add(ApplicationType.valueOf(applicationType));
+                }
+            }
+            features.add(new FeatureMetadata(properties.getProperty(prefix + "name"),
+                    type,
+                    properties.getProperty(prefix + "title"),
+                    properties.getProperty(prefix + "description"),
+                    properties.getProperty(prefix + "category"),
+                    Boolean.parseBoolean(properties.getProperty(prefix + "visible")),
+                    Boolean.parseBoolean(properties.getProperty(prefix + "preview")),
+                    Boolean.parseBoolean(properties.getProperty(prefix + "community")),
+                    Boolean.parseBoolean(properties.getProperty(prefix + "default")),
+                    applicationTypes));
+        }
+        return new FeatureMetadataIndex(features);
+    }
+
+    /**
+     * Loads the index once, on first use.
+     */
+    private static final class Holder {
+
+        private static final FeatureMetadataIndex INSTANCE = load();
+
+        private static FeatureMetadataIndex load() {
+            URL resource = FeatureMetadataIndex.class.getClassLoader().getResource(RESOURCE);
+            if (resource != null) {
+                try (Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+                    return read(reader);
+                } catch (IOException e) {
+                    // ignore, features are listed from the beans instead
+                }
+            }
+            return null;
+        }
+    }
+}
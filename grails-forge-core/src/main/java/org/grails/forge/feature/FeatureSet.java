@@ -0,0 +1,233 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.feature;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of feature ids as assigned by {@link AvailableFeatures#getFeatureId(Feature)}.
+ * The set is stored as a bitset in its canonical form, so equality and hashing are cheap and
+ * it can be used directly as a cache key.
+ *
+ * @since 7.0.0
+ */
+public final class FeatureSet {
+
+    public static final FeatureSet EMPTY = new FeatureSet(new long[0]);
+
+    private static final int ADDRESS_BITS = 6;
+
+    private final long[] words;
+    private final int hash;
+
+    private FeatureSet(long[] words) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        this.words = length == words.length ? words : Arrays.copyOf(words, length);
+        this.hash = Arrays.hashCode(this.words);
+    }
+
+    /**
+     * @param ids The feature ids
+     * @return A set of the given ids
+     */
+    @NonNull
+    public static FeatureSet of(int... ids) {
+        Builder builder = builder();
+        for (int id : ids) {
+            builder.add(id);
+        }
+        return builder.build();
+    }
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param id The feature id
+     * @return Whether the id is in the set
+     */
+    public boolean contains(int id) {
+        int index = id >> ADDRESS_BITS;
+        return id >= 0 && index < words.length && (words[index] & (1L << id)) != 0;
+    }
+
+    /**
+     * @param other Another set
+     * @return Whether every id of the other set is in this set
+     */
+    public boolean containsAll(@NonNull FeatureSet other) {
+        if (other.words.length > words.length) {
+            return false;
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            if ((other.words[i] & ~words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param other Another set
+     * @return Whether the sets have any id in common
+     */
+    public boolean intersects(@NonNull FeatureSet other) {
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NonNull
+    public FeatureSet with(int id) {
+        if (contains(id)) {
+            return this;
+        }
+        return builder().addAll(this).add(id).build();
+    }
+
+    @NonNull
+    public FeatureSet union(@NonNull FeatureSet other) {
+        long[] larger = words.length >= other.words.length ? words : other.words;
+        long[] smaller = larger == words ? other.words : words;
+        long[] result = Arrays.copyOf(larger, larger.length);
+        for (int i = 0; i < smaller.length; i++) {
+            result[i] |= smaller[i];
+        }
+        return new FeatureSet(result);
+    }
+
+    @NonNull
+    public FeatureSet intersection(@NonNull FeatureSet other) {
+        long[] result = new long[Math.min(words.length, other.words.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new FeatureSet(result);
+    }
+
+    /**
+     * @param other Another set
+     * @return The ids of this set that are not in the other set
+     */
+    @NonNull
+    public FeatureSet difference(@NonNull FeatureSet other) {
+        long[] result = Arrays.copyOf(words, words.length);
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            result[i] &= ~other.words[i];
+        }
+        return new FeatureSet(result);
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Calls the consumer for every id in ascending order.
+     *
+     * @param consumer The consumer
+     */
+    public void forEach(@NonNull IntConsumer consumer) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                consumer.accept((i << ADDRESS_BITS) + bit);
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FeatureSet that = (FeatureSet) o;
+        return hash == that.hash && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        forEach(id -> joiner.add(String.valueOf(id)));
+        return joiner.toString();
+    }
+
+    /**
+     * Builds a {@link FeatureSet}.
+     */
+    public static final class Builder {
+
+        private long[] words = new long[2];
+
+        private Builder() { }
+
+        @NonNull
+        public Builder add(int id) {
+            if (id < 0) {
+                throw new IllegalArgumentException("Feature ids cannot be negative: " + id);
+            }
+            int index = id >> ADDRESS_BITS;
+            if (index >= words.length) {
+                words = Arrays.copyOf(words, Math.max(words.length * 2, index + 1));
+            }
+            words[index] |= 1L << id;
+            return this;
+        }
+
+        @NonNull
+        public Builder addAll(@NonNull FeatureSet featureSet) {
+            featureSet.forEach(this::add);
+            return this;
+        }
+
+        @NonNull
+        public FeatureSet build() {
+            return new FeatureSet(Arrays.copyOf(words, words.length));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.feature;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Indexes features by every class and interface they are assignable to, so that type
+ * lookups don't have to scan the feature set.
+ *
+ * @since 7.0.0
+ */
+final class FeatureTypeIndex {
+
+    private static final ClassValue<Set<Class<?>>> SUPERTYPES = new ClassValue<Set<Class<?>>>() {
+        @Override
+        protected Set<Class<?>> computeValue(Class<?> type) {
+            Set<Class<?>> supertypes = new LinkedHashSet<>();
+            Deque<Class<?>> queue = new ArrayDeque<>();
+            queue.add(type);
+            while (!queue.isEmpty()) {
+                Class<?> current = queue.poll();
+                if (supertypes.add(current)) {
+                    if (current.getSuperclass() != null) {
+                        queue.add(current.getSuperclass());
+                    }
+                    Collections.addAll(queue, current.getInterfaces());
+                }
+            }
+            return Collections.unmodifiableSet(supertypes);
+        }
+    };
+
+    private final Map<Class<?>, List<Feature>> featuresByType = new HashMap<>();
+
+    FeatureTypeIndex() {
+    }
+
+    FeatureTypeIndex(Iterable<Feature> features) {
+        for (Feature feature : features) {
+            add(feature);
+        }
+    }
+
+    void add(Feature feature) {
+        for (Class<?> type : SUPERTYPES.get(feature.getClass())) {
+            featuresByType.computeIfAbsent(type, key -> new ArrayList<>(2)).add(feature);
+        }
+    }
+
+    void removeIf(Predicate<Feature> predicate) {
+        featuresByType.values().forEach(features -> features.removeIf(predicate));
+        featuresByType.values().removeIf(List::isEmpty);
+    }
+
+    boolean contains(Class<?> type) {
+        return featuresByType.containsKey(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Optional<T> first(Class<T> type) {
+        List<Feature> features = featuresByType.get(type);
+        if (features == null) {
+            return Optional.empty();
+        }
+        return Optional.of((T) features.get(0));
+    }
+}
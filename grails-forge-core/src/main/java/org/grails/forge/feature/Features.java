@@ -41,10 +41,12 @@ public class Features extends ArrayList<String> {
     private LanguageFeature languageFeature;
     private TestFeature testFeature;
     private final JdkVersion javaVersion;
+    private final FeatureTypeIndex typeIndex;
 
     public Features(GeneratorContext context, Set<Feature> featureList, Options options) {
         super(featureList.stream().map(Feature::getName).collect(Collectors.toList()));
         this.featureList = featureList;
+        this.typeIndex = new FeatureTypeIndex(featureList);
         this.context = context;
         for (Feature feature: featureList) {
             if (applicationFeature == null && feature instanceof ApplicationFeature) {
@@ -107,28 +109,17 @@ public class Features extends ArrayList<String> {
 
     public boolean isFeaturePresent(Class<? extends Feature> feature) {
         Objects.requireNonNull(feature, "The feature class cannot be null");
-        return getFeatures().stream()
-                .map(Feature::getClass)
-                .anyMatch(feature::isAssignableFrom);
+        return typeIndex.contains(feature);
     }
 
     public <T extends Feature> Optional<T> getFeature(Class<T> feature) {
         Objects.requireNonNull(feature, "The feature class cannot be null");
-        for (Feature f : featureList) {
-            if (feature.isInstance(f)) {
-                return Optional.of((T) f);
-            }
-        }
-        return Optional.empty();
+        return typeIndex.first(feature);
     }
 
     public <T extends Feature> T getRequiredFeature(Class<T> feature) {
         Objects.requireNonNull(feature, "The feature class cannot be null");
-        for (Feature f : featureList) {
-            if (feature.isInstance(f)) {
-                return (T) f;
-            }
-        }
-        throw new IllegalStateException(String.format("The required feature type %s does not exist", feature.getName()));
+        return typeIndex.first(feature).orElseThrow(() ->
+                new IllegalStateException(String.format("The required feature type %s does not exist", feature.getName())));
     }
 }
@@ -27,6 +27,7 @@ import org.grails.forge.feature.DefaultFeature;
 import org.grails.forge.feature.Feature;
 import org.grails.forge.feature.assetPipeline.templates.assetPipelineExtension;
 import org.grails.forge.options.Options;
+import org.grails.forge.template.PureWritable;
 import org.grails.forge.template.RockerWritable;
 import org.grails.forge.template.URLTemplate;
 
@@ -60,9 +61,12 @@ public class AssetPipeline implements DefaultFeature {
 
     @Override
     public void apply(GeneratorContext generatorContext) {
+        ApplicationType applicationType = generatorContext.getApplicationType();
         generatorContext.addBuildPlugin(GradlePlugin.builder()
                 .id("com.bertramlabs.asset-pipeline")
-                .extension(new RockerWritable(assetPipelineExtension.template(generatorContext.getApplicationType())))
+                .extension(PureWritable.of(assetPipelineExtension.class,
+                        () -> new RockerWritable(assetPipelineExtension.template(applicationType)),
+                        applicationType))
                 .lookupArtifactId("asset-pipeline-gradle")
                 .build());
 
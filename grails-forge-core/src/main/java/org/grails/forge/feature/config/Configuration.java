@@ -23,6 +23,8 @@ import io.micronaut.core.util.StringUtils;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
  * Models application environment configuration to specify where the configuration is rooted
@@ -32,6 +34,11 @@ import java.util.Objects;
  */
 public class Configuration extends LinkedHashMap<String, Object> {
 
+    private static final Pattern DOT_PATTERN = Pattern.compile("\\.");
+    private static final int MAX_COMPILED_PATHS = 1024;
+    private static final Map<String, String[]> COMPILED_PATHS = new ConcurrentHashMap<>();
+    private static final Object ABSENT = new Object();
+
     private final String path;
     private final String fileName;
     private final String templateKey;
@@ -56,20 +63,20 @@ public class Configuration extends LinkedHashMap<String, Object> {
     @Override
     public boolean containsKey(Object key) {
         if (key != null) {
-            return super.containsKey(key) || containsNested(key.toString());
+            return super.containsKey(key) || findNested(key.toString()) != ABSENT;
         }
         return false;
     }
 
     @Override
     public Object get(Object key) {
-        if (key != null && containsKey(key)) {
+        if (key != null) {
             final Object o = super.get(key);
             if (o != null) {
                 return o;
-            } else {
-                return getNested(key.toString());
             }
+            final Object nested = findNested(key.toString());
+            return nested == ABSENT ? null : nested;
         }
         return null;
     }
@@ -83,7 +90,7 @@ public class Configuration extends LinkedHashMap<String, Object> {
      */
     public Configuration addNested(String path, Object value) {
         if (StringUtils.isNotEmpty(path)) {
-            final String[] tokens = path.split("\\.");
+            final String[] tokens = compile(path);
             LinkedHashMap<String, Object> map = this;
             for (int i = 0; i < tokens.length; i++) {
                 String token = tokens[i];
@@ -148,52 +155,46 @@ public class Configuration extends LinkedHashMap<String, Object> {
         return Objects.hash(templateKey);
     }
 
-    private boolean containsNested(String key) {
+    /**
+     * Walks the nested maps once for the given dotted path.
+     *
+     * @param key The dotted path
+     * @return The value, or {@link #ABSENT} if the path does not resolve
+     */
+    private Object findNested(String key) {
         if (key.indexOf('.') == -1) {
-            return false;
+            return ABSENT;
         }
-        final String[] tokens = key.split("\\.");
-        Map<String, Object> map = this;
-        for (int i = 0; i < tokens.length; i++) {
-            String token = tokens[i];
-            if (!map.containsKey(token)) {
-                return false;
-            } else {
-                final Object o = map.get(token);
-                if (i == tokens.length - 1) {
-                    return true;
-                } else if (o instanceof Map) {
-                    map = (Map<String, Object>) o;
-                } else {
-                    return false;
-                }
+        final String[] tokens = compile(key);
+        if (tokens.length == 0) {
+            return null;
+        }
+        Object current = this;
+        for (String token : tokens) {
+            if (!(current instanceof Map)) {
+                return ABSENT;
+            }
+            final Map<?, ?> map = (Map<?, ?>) current;
+            current = map.get(token);
+            if (current == null && !map.containsKey(token)) {
+                return ABSENT;
             }
         }
-        return true;
+        return current;
     }
 
-    private Object getNested(String key) {
-        if (key.indexOf('.') == -1) {
-            return null;
-        }
-        final String[] tokens = key.split("\\.");
-        Map<String, Object> map = this;
-        for (int i = 0; i < tokens.length; i++) {
-            String token = tokens[i];
-            if (!map.containsKey(token)) {
-                return null;
-            } else {
-                final Object o = map.get(token);
-                if (i == tokens.length - 1) {
-                    return o;
-                } else if (o instanceof Map) {
-                    map = (Map<String, Object>) o;
-                } else {
-                    return null;
-                }
+    /**
+     * Splits a dotted path into its segments. Features use a small, fixed set of paths,
+     * so the segments are compiled once and shared. The returned array must not be modified.
+     */
+    private static String[] compile(String path) {
+        String[] tokens = COMPILED_PATHS.get(path);
+        if (tokens == null) {
+            tokens = DOT_PATTERN.split(path);
+            if (COMPILED_PATHS.size() < MAX_COMPILED_PATHS) {
+                COMPILED_PATHS.putIfAbsent(path, tokens);
             }
         }
-        return null;
+        return tokens;
     }
-
 }
@@ -19,6 +19,7 @@ import jakarta.inject.Singleton;
 import org.grails.forge.application.generator.GeneratorContext;
 import org.grails.forge.build.dependencies.Dependency;
 import org.grails.forge.feature.migration.templates.dbMigrationGradle;
+import org.grails.forge.template.PureWritable;
 import org.grails.forge.template.RockerWritable;
 
 @Singleton
@@ -55,7 +56,9 @@ public class DatabaseMigrationPlugin implements MigrationFeature {
                 .groupId("org.grails.plugins")
                 .lookupArtifactId("database-migration")
                 .buildSrc()
-                .extension(new RockerWritable(dbMigrationGradle.template(srcDirPath))));
+                .extension(PureWritable.of(dbMigrationGradle.class,
+                        () -> new RockerWritable(dbMigrationGradle.template(srcDirPath)),
+                        srcDirPath)));
         generatorContext.addDependency(Dependency.builder()
                 .groupId("org.grails.plugins")
                 .lookupArtifactId("database-migration")
@@ -16,26 +16,14 @@
 package org.grails.forge.feature.test;
 
 import jakarta.inject.Singleton;
-import org.grails.forge.application.ApplicationType;
-import org.grails.forge.feature.Feature;
-import org.grails.forge.feature.validation.FeatureValidator;
-import org.grails.forge.options.Options;
+import org.grails.forge.feature.validation.RequiredFeatureValidator;
 
-import java.util.Set;
+import java.util.Collections;
 
 @Singleton
-public class AssertJValidator implements FeatureValidator {
-    @Override
-    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
-        if (features.stream().anyMatch(f -> f instanceof AssertJ)) {
-            if (features.stream().noneMatch(f -> (f instanceof Junit))) {
-                throw new IllegalArgumentException("AssertJ requires JUnit.");
-            }
-        }
-    }
-
-    @Override
-    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
+public class AssertJValidator extends RequiredFeatureValidator {
 
+    public AssertJValidator() {
+        super(AssertJ.class, Collections.singletonList(Junit.class), "AssertJ requires JUnit.");
     }
 }
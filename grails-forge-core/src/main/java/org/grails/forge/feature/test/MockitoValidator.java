@@ -16,26 +16,14 @@
 package org.grails.forge.feature.test;
 
 import jakarta.inject.Singleton;
-import org.grails.forge.application.ApplicationType;
-import org.grails.forge.feature.Feature;
-import org.grails.forge.feature.validation.FeatureValidator;
-import org.grails.forge.options.Options;
+import org.grails.forge.feature.validation.RequiredFeatureValidator;
 
-import java.util.Set;
+import java.util.Arrays;
 
 @Singleton
-public class MockitoValidator implements FeatureValidator {
-    @Override
-    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
-        if (features.stream().anyMatch(f -> f instanceof Mockito)) {
-            if (features.stream().noneMatch(f -> (f instanceof Junit || f instanceof Spock))) {
-                throw new IllegalArgumentException("Mockito requires JUnit or Spock.");
-            }
-        }
-    }
-
-    @Override
-    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
+public class MockitoValidator extends RequiredFeatureValidator {
 
+    public MockitoValidator() {
+        super(Mockito.class, Arrays.asList(Junit.class, Spock.class), "Mockito requires JUnit or Spock.");
     }
 }
@@ -18,7 +18,9 @@ package org.grails.forge.feature.validation;
 import io.micronaut.context.annotation.Primary;
 import jakarta.inject.Singleton;
 import org.grails.forge.application.ApplicationType;
+import org.grails.forge.feature.AvailableFeatures;
 import org.grails.forge.feature.Feature;
+import org.grails.forge.feature.FeatureSet;
 import org.grails.forge.options.Options;
 
 import java.util.List;
@@ -48,4 +50,31 @@ public class CompositeFeatureValidator implements FeatureValidator {
         }
     }
 
+    @Override
+    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features,
+                                      FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        for (FeatureValidator featureValidator: featureValidators) {
+            featureValidator.validatePreProcessing(options, applicationType, features, featureSet, availableFeatures);
+        }
+    }
+
+    @Override
+    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features,
+                                       FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        for (FeatureValidator featureValidator: featureValidators) {
+            featureValidator.validatePostProcessing(options, applicationType, features, featureSet, availableFeatures);
+        }
+    }
+
+    @Override
+    public boolean isValid(Options options, ApplicationType applicationType,
+                           FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        for (FeatureValidator featureValidator: featureValidators) {
+            if (!featureValidator.isValid(options, applicationType, featureSet, availableFeatures)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
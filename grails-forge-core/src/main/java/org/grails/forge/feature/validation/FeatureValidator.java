@@ -15,10 +15,14 @@
  */
 package org.grails.forge.feature.validation;
 
+import io.micronaut.core.annotation.NonNull;
 import org.grails.forge.application.ApplicationType;
+import org.grails.forge.feature.AvailableFeatures;
 import org.grails.forge.feature.Feature;
+import org.grails.forge.feature.FeatureSet;
 import org.grails.forge.options.Options;
 
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 public interface FeatureValidator {
@@ -26,4 +30,66 @@ public interface FeatureValidator {
     void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features);
 
     void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features);
+
+    /**
+     * Validates the selected features when their ids are known. Validators whose rules only depend
+     * on which features are selected can override this to check precompiled feature id masks.
+     *
+     * @param options           The options
+     * @param applicationType   The application type
+     * @param features          The features
+     * @param featureSet        The ids of the features
+     * @param availableFeatures The available features the ids were assigned by
+     */
+    default void validatePreProcessing(Options options,
+                                       ApplicationType applicationType,
+                                       Set<Feature> features,
+                                       @NonNull FeatureSet featureSet,
+                                       @NonNull AvailableFeatures availableFeatures) {
+        validatePreProcessing(options, applicationType, features);
+    }
+
+    /**
+     * Validates the final features when their ids are known.
+     *
+     * @param options           The options
+     * @param applicationType   The application type
+     * @param features          The features
+     * @param featureSet        The ids of the features
+     * @param availableFeatures The available features the ids were assigned by
+     * @see #validatePreProcessing(Options, ApplicationType, Set, FeatureSet, AvailableFeatures)
+     */
+    default void validatePostProcessing(Options options,
+                                        ApplicationType applicationType,
+                                        Set<Feature> features,
+                                        @NonNull FeatureSet featureSet,
+                                        @NonNull AvailableFeatures availableFeatures) {
+        validatePostProcessing(options, applicationType, features);
+    }
+
+    /**
+     * Checks whether the features could be selected together without throwing, used to probe many
+     * candidate selections. Validators with precompiled feature id masks should override this, the
+     * default runs both validations on the resolved features.
+     *
+     * @param options           The options
+     * @param applicationType   The application type
+     * @param featureSet        The ids of the features
+     * @param availableFeatures The available features the ids were assigned by
+     * @return Whether the features pass the validation
+     * @since 7.0.0
+     */
+    default boolean isValid(Options options,
+                            ApplicationType applicationType,
+                            @NonNull FeatureSet featureSet,
+                            @NonNull AvailableFeatures availableFeatures) {
+        Set<Feature> features = new LinkedHashSet<>(availableFeatures.toFeatures(featureSet));
+        try {
+            validatePreProcessing(options, applicationType, features, featureSet, availableFeatures);
+            validatePostProcessing(options, applicationType, features, featureSet, availableFeatures);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
 }
@@ -17,17 +17,25 @@ package org.grails.forge.feature.validation;
 
 import jakarta.inject.Singleton;
 import org.grails.forge.application.ApplicationType;
+import org.grails.forge.feature.AvailableFeatures;
 import org.grails.forge.feature.Feature;
+import org.grails.forge.feature.FeatureSet;
 import org.grails.forge.feature.OneOfFeature;
 import org.grails.forge.options.Options;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Singleton
 public class OneOfFeatureValidator implements FeatureValidator {
 
+    private final Map<AvailableFeatures, List<OneOfGroup>> groups = new ConcurrentHashMap<>();
+
     private void validate(Set<Feature> features) {
         Set<Class<?>> oneOfFeatures = features.stream()
                 .filter(feature -> feature instanceof OneOfFeature)
@@ -41,9 +49,55 @@ public class OneOfFeatureValidator implements FeatureValidator {
                     .map(Feature::getName)
                     .collect(Collectors.toList());
             if (matches.size() > 1) {
-                throw new IllegalArgumentException(String.format("There can only be one of the following features selected: %s", matches));
+                throw conflict(matches);
+            }
+        }
+    }
+
+    private void validate(Set<Feature> features, FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        for (OneOfGroup group: groups.computeIfAbsent(availableFeatures, OneOfFeatureValidator::compile)) {
+            if (featureSet.intersects(group.selectors)) {
+                FeatureSet matches = featureSet.intersection(group.members);
+                if (matches.size() > 1) {
+                    // list the conflicts in the order of the features, as the feature set rules do
+                    throw conflict(features.stream()
+                            .filter(feature -> matches.contains(availableFeatures.getFeatureId(feature)))
+                            .map(Feature::getName)
+                            .collect(Collectors.toList()));
+                }
+            }
+        }
+    }
+
+    private boolean isValid(FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        for (OneOfGroup group: groups.computeIfAbsent(availableFeatures, OneOfFeatureValidator::compile)) {
+            if (featureSet.intersects(group.selectors) && featureSet.intersection(group.members).size() > 1) {
+                return false;
             }
         }
+        return true;
+    }
+
+    private static IllegalArgumentException conflict(List<String> matches) {
+        return new IllegalArgumentException(String.format("There can only be one of the following features selected: %s", matches));
+    }
+
+    /**
+     * Computes, for every one of group, the features that select the group and the features
+     * that belong to it, so a selection is checked with a few bitset operations per group.
+     */
+    private static List<OneOfGroup> compile(AvailableFeatures availableFeatures) {
+        // only the one of features are instantiated, group members are matched by type
+        Map<Class<?>, FeatureSet.Builder> selectors = new LinkedHashMap<>();
+        FeatureSet oneOfFeatures = availableFeatures.getFeatureSet(OneOfFeature.class);
+        oneOfFeatures.forEach(id -> {
+            OneOfFeature feature = (OneOfFeature) availableFeatures.toFeatures(FeatureSet.of(id)).get(0);
+            selectors.computeIfAbsent(feature.getFeatureClass(), featureClass -> FeatureSet.builder()).add(id);
+        });
+        List<OneOfGroup> compiled = new ArrayList<>(selectors.size());
+        selectors.forEach((featureClass, selector) ->
+                compiled.add(new OneOfGroup(selector.build(), availableFeatures.getFeatureSet(featureClass))));
+        return compiled;
     }
 
     @Override
@@ -55,4 +109,33 @@ public class OneOfFeatureValidator implements FeatureValidator {
     public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
         validate(features);
     }
+
+    @Override
+    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features,
+                                      FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        validate(features, featureSet, availableFeatures);
+    }
+
+    @Override
+    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features,
+                                       FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        validate(features, featureSet, availableFeatures);
+    }
+
+    @Override
+    public boolean isValid(Options options, ApplicationType applicationType,
+                           FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        return isValid(featureSet, availableFeatures);
+    }
+
+    private static final class OneOfGroup {
+
+        private final FeatureSet selectors;
+        private final FeatureSet members;
+
+        private OneOfGroup(FeatureSet selectors, FeatureSet members) {
+            this.selectors = selectors;
+            this.members = members;
+        }
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.feature.validation;
+
+import io.micronaut.core.annotation.NonNull;
+import org.grails.forge.application.ApplicationType;
+import org.grails.forge.feature.AvailableFeatures;
+import org.grails.forge.feature.Feature;
+import org.grails.forge.feature.FeatureSet;
+import org.grails.forge.options.Options;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validates that when a feature of a given type is selected, at least one feature of the
+ * required types is selected as well. The rule is compiled into feature id masks once per
+ * {@link AvailableFeatures}.
+ *
+ * @since 7.0.0
+ */
+public abstract class RequiredFeatureValidator implements FeatureValidator {
+
+    private final Class<? extends Feature> featureClass;
+    private final List<Class<? extends Feature>> requiredClasses;
+    private final String message;
+    private final Map<AvailableFeatures, FeatureSet[]> masks = new ConcurrentHashMap<>();
+
+    /**
+     * @param featureClass    The type of the feature with the requirement
+     * @param requiredClasses The types of which at least one must be selected
+     * @param message         The error message when the requirement is not met
+     */
+    protected RequiredFeatureValidator(@NonNull Class<? extends Feature> featureClass,
+                                       @NonNull List<Class<? extends Feature>> requiredClasses,
+                                       @NonNull String message) {
+        this.featureClass = featureClass;
+        this.requiredClasses = requiredClasses;
+        this.message = message;
+    }
+
+    @Override
+    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
+        if (features.stream().anyMatch(featureClass::isInstance)) {
+            if (features.stream().noneMatch(this::isRequired)) {
+                throw new IllegalArgumentException(message);
+            }
+        }
+    }
+
+    @Override
+    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
+
+    }
+
+    @Override
+    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features,
+                                      FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        if (!isValid(options, applicationType, featureSet, availableFeatures)) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    @Override
+    public boolean isValid(Options options, ApplicationType applicationType,
+                           FeatureSet featureSet, AvailableFeatures availableFeatures) {
+        FeatureSet[] compiled = masks.computeIfAbsent(availableFeatures, this::compile);
+        return !featureSet.intersects(compiled[0]) || featureSet.intersects(compiled[1]);
+    }
+
+    @Override
+    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features,
+                                       FeatureSet featureSet, AvailableFeatures availableFeatures) {
+
+    }
+
+    private FeatureSet[] compile(AvailableFeatures availableFeatures) {
+        FeatureSet required = FeatureSet.EMPTY;
+        for (Class<? extends Feature> requiredClass: requiredClasses) {
+            required = required.union(availableFeatures.getFeatureSet(requiredClass));
+        }
+        return new FeatureSet[] {availableFeatures.getFeatureSet(featureClass), required};
+    }
+
+    private boolean isRequired(Feature feature) {
+        for (Class<? extends Feature> requiredClass: requiredClasses) {
+            if (requiredClass.isInstance(feature)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
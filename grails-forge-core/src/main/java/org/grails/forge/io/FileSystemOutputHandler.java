@@ -19,18 +19,37 @@ import org.grails.forge.application.Project;
 import org.grails.forge.template.Template;
 import org.grails.forge.template.Writable;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 public class FileSystemOutputHandler implements OutputHandler {
 
     File applicationDirectory;
     private final ConsoleOutput console;
+    private final boolean incremental;
+    private int writtenCount;
+    private int skippedCount;
 
     public FileSystemOutputHandler(Project project, boolean inplace, ConsoleOutput console) throws IOException {
+        this(project, inplace, false, console);
+    }
+
+    /**
+     * @param project     The project
+     * @param inplace     Whether to generate into the current directory
+     * @param incremental Whether files whose content is unchanged on disk should be left untouched
+     * @param console     The console output
+     * @throws IOException If the base directory cannot be resolved
+     */
+    public FileSystemOutputHandler(Project project, boolean inplace, boolean incremental, ConsoleOutput console) throws IOException {
         this.console = console;
+        this.incremental = incremental;
         File baseDirectory = getDefaultBaseDirectory();
         if (inplace) {
             applicationDirectory = baseDirectory;
@@ -43,7 +62,17 @@ public class FileSystemOutputHandler implements OutputHandler {
     }
 
     public FileSystemOutputHandler(File directory, ConsoleOutput console) throws IOException {
+        this(directory, false, console);
+    }
+
+    /**
+     * @param directory   The directory to generate into
+     * @param incremental Whether files whose content is unchanged on disk should be left untouched
+     * @param console     The console output
+     */
+    public FileSystemOutputHandler(File directory, boolean incremental, ConsoleOutput console) {
         this.console = console;
+        this.incremental = incremental;
         this.applicationDirectory = directory;
     }
 
@@ -89,15 +118,57 @@ public class FileSystemOutputHandler implements OutputHandler {
             path = path.replace('/', File.separatorChar);
         }
         File targetFile = new File(applicationDirectory, path);
+        if (incremental && targetFile.isFile()) {
+            ByteArrayOutputStream rendered = new ByteArrayOutputStream();
+            contents.write(rendered);
+            byte[] bytes = rendered.toByteArray();
+            if (isUnchanged(targetFile.toPath(), bytes)) {
+                skippedCount++;
+                return targetFile;
+            }
+            Files.write(targetFile.toPath(), bytes);
+            writtenCount++;
+            return targetFile;
+        }
         targetFile.getParentFile().mkdirs();
         targetFile.createNewFile();
 
-        try (OutputStream os = Files.newOutputStream(targetFile.toPath())) {
-            contents.write(os);
+        try (FileChannel channel = FileChannel.open(targetFile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            contents.transferTo(channel);
         }
+        writtenCount++;
         return targetFile;
     }
 
+    /**
+     * Whether only files whose content differs from what is already on disk are written.
+     * Unchanged files keep their modification time, which keeps build and IDE caches warm.
+     *
+     * @return True if incremental
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * @return The number of files written to disk
+     */
+    public int getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * @return The number of files skipped because their content was unchanged
+     */
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    private static boolean isUnchanged(Path existing, byte[] rendered) throws IOException {
+        // the size rules out most changed files without reading them
+        return Files.size(existing) == rendered.length && Arrays.equals(Files.readAllBytes(existing), rendered);
+    }
+
     @Override
     public void close() {
 
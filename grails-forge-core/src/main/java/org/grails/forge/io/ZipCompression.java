@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.io;
+
+import java.util.zip.Deflater;
+
+/**
+ * The deflate level used for compressible entries of a generated ZIP. Entries that are already
+ * compressed, such as jars and images, are always stored regardless of the level.
+ *
+ * @since 7.0.0
+ */
+public enum ZipCompression {
+
+    FAST(Deflater.BEST_SPEED),
+    DEFAULT(Deflater.DEFAULT_COMPRESSION),
+    MAX(Deflater.BEST_COMPRESSION);
+
+    public static final ZipCompression DEFAULT_OPTION = DEFAULT;
+    private final int level;
+
+    ZipCompression(int level) {
+        this.level = level;
+    }
+
+    /**
+     * @return The {@link Deflater} level
+     */
+    public int getLevel() {
+        return level;
+    }
+}
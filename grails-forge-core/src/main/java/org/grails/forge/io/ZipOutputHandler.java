@@ -22,15 +22,29 @@ import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.grails.forge.application.Project;
 import org.grails.forge.template.Template;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
 
 public class ZipOutputHandler implements OutputHandler {
 
+    /**
+     * Extensions of files that are already compressed and are stored without deflating.
+     */
+    private static final Set<String> STORED_EXTENSIONS = new HashSet<>(Arrays.asList(
+            "jar", "war", "zip", "gz", "png", "ico", "gif", "jpg", "jpeg", "webp", "woff", "woff2"
+    ));
+
     private final ZipArchiveOutputStream zipOutputStream;
     private final File zip;
     private final String directory;
@@ -48,14 +62,22 @@ public class ZipOutputHandler implements OutputHandler {
     }
 
     public ZipOutputHandler(OutputStream outputStream) {
-        zip = null;
-        zipOutputStream = new ZipArchiveOutputStream(outputStream);
-        directory = null;
+        this(null, outputStream);
     }
 
     public ZipOutputHandler(String projectName, OutputStream outputStream) {
+        this(projectName, outputStream, ZipCompression.DEFAULT_OPTION);
+    }
+
+    /**
+     * @param projectName The directory entries are written to, or null for the root
+     * @param outputStream The output stream
+     * @param compression The compression for entries that are not already compressed
+     */
+    public ZipOutputHandler(String projectName, OutputStream outputStream, ZipCompression compression) {
         zip = null;
         zipOutputStream = new ZipArchiveOutputStream(outputStream);
+        zipOutputStream.setLevel(compression.getLevel());
         directory = projectName;
     }
 
@@ -79,8 +101,37 @@ public class ZipOutputHandler implements OutputHandler {
         if (contents.isExecutable()) {
             zipEntry.setUnixMode(UnixStat.FILE_FLAG | 0755);
         }
+        if (isCompressed(path)) {
+            writeStored(zipEntry, contents);
+        } else {
+            zipOutputStream.putArchiveEntry(zipEntry);
+            contents.write(zipOutputStream);
+            zipOutputStream.closeArchiveEntry();
+        }
+    }
+
+    /**
+     * @param path The path of the entry
+     * @return Whether the content is already compressed and deflating it again would waste CPU
+     */
+    protected boolean isCompressed(String path) {
+        int index = path.lastIndexOf('.');
+        return index != -1 && STORED_EXTENSIONS.contains(path.substring(index + 1).toLowerCase(Locale.ENGLISH));
+    }
+
+    private void writeStored(ZipArchiveEntry zipEntry, Template contents) throws IOException {
+        // the size and CRC of stored entries must be known up front when streaming
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        contents.write(buffer);
+        byte[] bytes = buffer.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        zipEntry.setMethod(ZipEntry.STORED);
+        zipEntry.setSize(bytes.length);
+        zipEntry.setCompressedSize(bytes.length);
+        zipEntry.setCrc(crc.getValue());
         zipOutputStream.putArchiveEntry(zipEntry);
-        contents.write(zipOutputStream);
+        zipOutputStream.write(bytes);
         zipOutputStream.closeArchiveEntry();
     }
 
@@ -25,6 +25,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 public class Config4kTemplate implements Template {
+    private static final ConfigRenderOptions RENDER_OPTIONS = ConfigRenderOptions.defaults()
+            .setOriginComments(false)
+            .setJson(false);
+
     private final String path;
     private final Config config;
 
@@ -40,13 +44,7 @@ public class Config4kTemplate implements Template {
 
     @Override
     public void write(OutputStream outputStream) throws IOException {
-        String renderedConfig = config.root().render(renderOptions());
+        String renderedConfig = config.root().render(RENDER_OPTIONS);
         outputStream.write(renderedConfig.getBytes(StandardCharsets.UTF_8));
     }
-
-    private ConfigRenderOptions renderOptions() {
-        ConfigRenderOptions options = ConfigRenderOptions.defaults();
-        options = options.setOriginComments(false);
-        return options.setJson(false);
-    }
 }
@@ -17,22 +17,27 @@ package org.grails.forge.template;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.Collections;
-import java.util.Enumeration;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 
+/**
+ * Writes configuration in the {@link java.util.Properties} file format. Entries are written in insertion order
+ * with the same escaping as {@link java.util.Properties#store(OutputStream, String)}, but without the timestamp
+ * comment so regenerated files are stable.
+ */
 public class PropertiesTemplate implements Template {
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
     private final String path;
-    private final Properties properties;
+    private final Map<String, String> properties;
 
     public PropertiesTemplate(String path, Map<String, Object> config) {
         this.path = path;
-        this.properties = transform(new LinkedProperties(), "", config);
+        this.properties = transform(new LinkedHashMap<>(), "", config);
     }
 
     @Override
@@ -42,17 +47,24 @@ public class PropertiesTemplate implements Template {
 
     @Override
     public void write(OutputStream outputStream) throws IOException {
-        properties.store(outputStream, null);
+        StringBuilder builder = new StringBuilder(properties.size() * 32);
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            escape(builder, entry.getKey(), true);
+            builder.append('=');
+            escape(builder, entry.getValue(), false);
+            builder.append(LINE_SEPARATOR);
+        }
+        outputStream.write(builder.toString().getBytes(StandardCharsets.ISO_8859_1));
     }
 
-    private Properties transform(Properties finalConfig, String prefix, Map<String, Object> config) {
+    private Map<String, String> transform(Map<String, String> finalConfig, String prefix, Map<String, Object> config) {
         for (Map.Entry<String, Object> entry : config.entrySet()) {
             transform(finalConfig, prefix + entry.getKey(), entry.getValue());
         }
         return finalConfig;
     }
 
-    private void transform(Properties finalConfig, String prefix, Object value) {
+    private void transform(Map<String, String> finalConfig, String prefix, Object value) {
         if (value instanceof Map) {
             transform(finalConfig, prefix + ".", (Map<String, Object>) value);
         } else if (value instanceof List) {
@@ -65,23 +77,55 @@ public class PropertiesTemplate implements Template {
         }
     }
 
-    public class LinkedProperties extends Properties {
-        private final HashSet<Object> keys = new LinkedHashSet<>();
-
-        public LinkedProperties() {
-        }
-
-        public Iterable<Object> orderedKeys() {
-            return Collections.list(keys());
-        }
-
-        public Enumeration<Object> keys() {
-            return Collections.enumeration(keys);
-        }
-
-        public Object put(Object key, Object value) {
-            keys.add(key);
-            return super.put(key, value);
+    /**
+     * Escapes a key or value the way {@link java.util.Properties} does when storing to a stream.
+     */
+    private static void escape(StringBuilder builder, String value, boolean escapeSpace) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c > 61 && c < 127) {
+                if (c == '\\') {
+                    builder.append('\\');
+                }
+                builder.append(c);
+                continue;
+            }
+            switch (c) {
+                case ' ':
+                    if (i == 0 || escapeSpace) {
+                        builder.append('\\');
+                    }
+                    builder.append(' ');
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '=':
+                case ':':
+                case '#':
+                case '!':
+                    builder.append('\\').append(c);
+                    break;
+                default:
+                    if (c < 0x0020 || c > 0x007e) {
+                        builder.append("\\u")
+                                .append(HEX_DIGITS[(c >> 12) & 0xF])
+                                .append(HEX_DIGITS[(c >> 8) & 0xF])
+                                .append(HEX_DIGITS[(c >> 4) & 0xF])
+                                .append(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+            }
         }
     }
 }
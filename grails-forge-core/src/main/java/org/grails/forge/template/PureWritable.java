@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.template;
+
+import io.micronaut.core.annotation.NonNull;
+import org.grails.forge.util.VersionCatalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Writable} whose output depends only on the template and the declared inputs.
+ * The rendered bytes are cached by those inputs and the {@link VersionCatalog} revision and
+ * shared across generations, so the underlying writable is only created and rendered once
+ * per catalog.
+ *
+ * @since 7.0.0
+ */
+public final class PureWritable implements Writable {
+
+    private static final int MAX_CACHED_ENTRIES = 512;
+    private static final Map<List<Object>, byte[]> CACHE = new ConcurrentHashMap<>();
+    private static final AtomicLong CACHE_REVISION = new AtomicLong();
+
+    private final List<Object> key;
+    private final Supplier<? extends Writable> writable;
+
+    private PureWritable(List<Object> key, Supplier<? extends Writable> writable) {
+        this.key = key;
+        this.writable = writable;
+    }
+
+    /**
+     * @param template The template the output is rendered from
+     * @param writable Supplies the writable to render when the output is not cached
+     * @param inputs   Every input the output depends on
+     * @return The writable
+     */
+    @NonNull
+    public static PureWritable of(@NonNull Class<?> template,
+                                  @NonNull Supplier<? extends Writable> writable,
+                                  Object... inputs) {
+        long revision = VersionCatalog.current().getRevision();
+        if (CACHE_REVISION.getAndSet(revision) != revision) {
+            // output rendered with another catalog is no longer requested once a new one is in use
+            CACHE.clear();
+        }
+        List<Object> key = new ArrayList<>(inputs.length + 2);
+        key.add(template);
+        key.add(revision);
+        key.addAll(Arrays.asList(inputs));
+        return new PureWritable(Collections.unmodifiableList(key), writable);
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+        outputStream.write(render());
+    }
+
+    private byte[] render() throws IOException {
+        byte[] bytes = CACHE.get(key);
+        if (bytes == null) {
+            ByteArrayOutputStream rendered = new ByteArrayOutputStream();
+            writable.get().write(rendered);
+            bytes = rendered.toByteArray();
+            if (CACHE.size() < MAX_CACHED_ENTRIES) {
+                CACHE.putIfAbsent(key, bytes);
+            }
+        }
+        return bytes;
+    }
+}
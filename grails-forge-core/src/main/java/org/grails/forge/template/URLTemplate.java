@@ -18,7 +18,16 @@ package org.grails.forge.template;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 public class URLTemplate implements Template {
@@ -48,6 +57,48 @@ public class URLTemplate implements Template {
         }
     }
 
+    @Override
+    public void transferTo(WritableByteChannel channel) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel source = FileChannel.open(toPath(), StandardOpenOption.READ)) {
+                long size = source.size();
+                long position = 0;
+                while (position < size) {
+                    position += source.transferTo(position, size - position, channel);
+                }
+            }
+            return;
+        }
+        try (ReadableByteChannel source = Channels.newChannel(url.openStream())) {
+            if (channel instanceof FileChannel) {
+                FileChannel target = (FileChannel) channel;
+                long position = target.position();
+                long transferred;
+                while ((transferred = target.transferFrom(source, position, Long.MAX_VALUE)) > 0) {
+                    position += transferred;
+                }
+                target.position(position);
+            } else {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(8192);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+        }
+    }
+
+    private Path toPath() throws IOException {
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid file URL: " + url, e);
+        }
+    }
+
     public boolean isExecutable() {
         return executable;
     }
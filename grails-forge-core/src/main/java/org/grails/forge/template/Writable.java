@@ -17,8 +17,24 @@ package org.grails.forge.template;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 public interface Writable {
 
     void write(OutputStream outputStream) throws IOException;
+
+    /**
+     * Writes the contents to the given channel. The channel is not closed.
+     * Implementations backed by raw bytes may override this to avoid copying
+     * through heap buffers.
+     *
+     * @param channel The channel
+     * @throws IOException If an error occurs writing
+     */
+    default void transferTo(WritableByteChannel channel) throws IOException {
+        OutputStream outputStream = Channels.newOutputStream(channel);
+        write(outputStream);
+        outputStream.flush();
+    }
 }
@@ -21,6 +21,9 @@ import org.yaml.snakeyaml.Yaml;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -28,6 +31,7 @@ import java.util.regex.Pattern;
 public class YamlTemplate implements Template {
 
     private static final Pattern DOT_PATTERN = Pattern.compile("\\.");
+    private static final DumperOptions DUMPER_OPTIONS = dumperOptions();
     private final String path;
     private final Map<String, Object> config;
 
@@ -43,20 +47,34 @@ public class YamlTemplate implements Template {
 
     @Override
     public void write(OutputStream outputStream) throws IOException {
+        if (config.isEmpty()) {
+            outputStream.write("# Place application configuration here".getBytes(StandardCharsets.UTF_8));
+        } else if (YamlWriter.supports(config)) {
+            YamlWriter.write(config, outputStream);
+        } else {
+            Yaml yaml = new Yaml(DUMPER_OPTIONS);
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            yaml.dump(config, writer);
+            writer.flush();
+        }
+    }
+
+    private static DumperOptions dumperOptions() {
         DumperOptions options = new DumperOptions();
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
         options.setPrettyFlow(true);
-
-        if (!config.isEmpty()) {
-            Yaml yaml = new Yaml(options);
-            yaml.dump(config, new OutputStreamWriter(outputStream));
-        } else {
-            outputStream.write("# Place application configuration here".getBytes());
-        }
+        return options;
     }
 
     @SuppressWarnings("unchecked")
     private Map<String, Object> transform(Map<String, Object> config) {
+        Map<String, Integer> nestedKeyCounts = new HashMap<>();
+        for (String key : config.keySet()) {
+            int index = key.indexOf('.');
+            if (index != -1) {
+                nestedKeyCounts.merge(key.substring(0, index), 1, Integer::sum);
+            }
+        }
         Map<String, Object> transformed = new LinkedHashMap<>();
         for (Map.Entry<String, Object> entry: config.entrySet()) {
             Map<String, Object> finalMap = transformed;
@@ -65,7 +83,7 @@ public class YamlTemplate implements Template {
             int index = key.indexOf('.');
             if (index != -1) {
                 String[] keys = DOT_PATTERN.split(key);
-                if (!keys[0].equals("micronaut") && config.keySet().stream().filter(k -> k.startsWith(keys[0] + ".")).count() == 1) {
+                if (!keys[0].equals("micronaut") && nestedKeyCounts.get(key.substring(0, index)) == 1) {
                     finalMap.put(key, value);
                 } else {
                     for (int i = 0; i < keys.length - 1; i++) {
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.template;
+
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams a configuration tree as block style YAML in a single pass, producing the same
+ * output as SnakeYAML with the options used by {@link YamlTemplate}.
+ *
+ * Only the shapes found in generated configuration are supported: nested maps with string keys,
+ * lists of scalars and string, integer, boolean or null values where strings are printable ASCII
+ * without whitespace. Anything else should be delegated to SnakeYAML, see {@link #supports(Map)}.
+ *
+ * @since 7.0.0
+ */
+final class YamlWriter {
+
+    private static final Resolver RESOLVER = new Resolver();
+    private static final int MAX_SIMPLE_KEY_LENGTH = 128;
+    private static final String INDENT = "  ";
+    private static final String LEADING_INDICATORS = "#,[]{}&*!|>'\"%@`";
+
+    private final OutputStream outputStream;
+
+    private YamlWriter(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * @param config The configuration tree
+     * @return Whether the whole tree can be written without SnakeYAML
+     */
+    static boolean supports(Map<String, Object> config) {
+        return !config.isEmpty() && supportsMap(config);
+    }
+
+    /**
+     * Writes the configuration tree. Callers must check {@link #supports(Map)} first.
+     *
+     * @param config       The configuration tree
+     * @param outputStream The output stream
+     * @throws IOException If an error occurs writing
+     */
+    static void write(Map<String, Object> config, OutputStream outputStream) throws IOException {
+        new YamlWriter(outputStream).writeMap(config, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeMap(Map<String, Object> map, int depth) throws IOException {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            indent(depth);
+            writeScalar(entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                write(":\n");
+                writeMap((Map<String, Object>) value, depth + 1);
+            } else if (value instanceof List) {
+                write(":\n");
+                for (Object item : (List<Object>) value) {
+                    // block sequences inside a mapping are not indented
+                    indent(depth);
+                    write("- ");
+                    writeValue(item);
+                    write("\n");
+                }
+            } else {
+                write(": ");
+                writeValue(value);
+                write("\n");
+            }
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            write("null");
+        } else if (value instanceof String) {
+            writeScalar((String) value);
+        } else {
+            write(value.toString());
+        }
+    }
+
+    private void writeScalar(String value) throws IOException {
+        if (isPlain(value)) {
+            write(value);
+        } else {
+            write("'");
+            write(value.replace("'", "''"));
+            write("'");
+        }
+    }
+
+    private void indent(int depth) throws IOException {
+        for (int i = 0; i < depth; i++) {
+            write(INDENT);
+        }
+    }
+
+    private void write(String value) throws IOException {
+        outputStream.write(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean supportsMap(Map<?, ?> map) {
+        if (map.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            if (!(key instanceof String) || !supportsString((String) key) || ((String) key).length() >= MAX_SIMPLE_KEY_LENGTH) {
+                return false;
+            }
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                if (!supportsMap((Map<?, ?>) value)) {
+                    return false;
+                }
+            } else if (value instanceof List) {
+                List<Object> list = (List<Object>) value;
+                if (list.isEmpty()) {
+                    return false;
+                }
+                for (Object item : list) {
+                    if (!supportsScalar(item)) {
+                        return false;
+                    }
+                }
+            } else if (!supportsScalar(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean supportsScalar(Object value) {
+        return value == null ||
+                value instanceof Boolean ||
+                value instanceof Integer ||
+                value instanceof Long ||
+                value instanceof Short ||
+                value instanceof Byte ||
+                (value instanceof String && supportsString((String) value));
+    }
+
+    /**
+     * Strings without whitespace, line breaks or non ASCII characters are never folded or
+     * escaped by SnakeYAML, so they are either written plain or single quoted.
+     */
+    private static boolean supportsString(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || c > '~') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mirrors the block context checks SnakeYAML's emitter applies before writing a plain scalar.
+     */
+    private static boolean isPlain(String value) {
+        if (!Tag.STR.equals(RESOLVER.resolve(NodeId.scalar, value, true))) {
+            return false;
+        }
+        if (value.startsWith("---") || value.startsWith("...")) {
+            return false;
+        }
+        char first = value.charAt(0);
+        boolean firstFollowedByWhitespace = value.length() == 1;
+        if (LEADING_INDICATORS.indexOf(first) != -1) {
+            return false;
+        }
+        if ((first == '?' || first == ':' || first == '-') && firstFollowedByWhitespace) {
+            return false;
+        }
+        return value.length() == 1 || value.charAt(value.length() - 1) != ':';
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.util;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A thread safe cache holding at most a fixed number of entries, evicting the least recently
+ * used entry when full. Values are computed outside of the lock, so two callers may compute the
+ * same value concurrently and the first one stored wins.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 7.0.0
+ */
+public final class LruCache<K, V> {
+
+    private final Map<K, V> entries;
+
+    /**
+     * @param maxSize The maximum number of entries
+     */
+    public LruCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive: " + maxSize);
+        }
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param key The key
+     * @return The cached value, or null
+     */
+    @Nullable
+    public synchronized V get(@NonNull K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @param key   The key
+     * @param value The value
+     * @return The value already cached for the key, or the given value once it is stored
+     */
+    @NonNull
+    public synchronized V putIfAbsent(@NonNull K key, @NonNull V value) {
+        V existing = entries.putIfAbsent(key, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * @param key      The key
+     * @param function Computes the value when it is not cached
+     * @return The cached value
+     */
+    @NonNull
+    public V computeIfAbsent(@NonNull K key, @NonNull Function<? super K, ? extends V> function) {
+        V value = get(key);
+        if (value == null) {
+            value = putIfAbsent(key, function.apply(key));
+        }
+        return value;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
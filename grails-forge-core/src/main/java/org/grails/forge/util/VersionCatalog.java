@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.forge.util;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.io.ResourceResolver;
+import org.grails.forge.build.dependencies.Coordinate;
+import org.grails.forge.build.dependencies.PomDependencyVersionResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An immutable snapshot of the Grails versions and dependency coordinates used for generation.
+ *
+ * The current snapshot can be replaced at runtime with {@link #update(VersionCatalog)}. A generation
+ * pins the snapshot it started with through {@link #pin(VersionCatalog)}, so a reload never mixes
+ * versions within a single project. The revision of a snapshot is a digest of its contents, so
+ * snapshots with equal revisions hold the same versions and coordinates on every instance and
+ * caches of derived output can use it as part of their key.
+ *
+ * @since 7.0.0
+ */
+public final class VersionCatalog {
+
+    /**
+     * The Grails versions written at build time.
+     */
+    public static final String VERSIONS_RESOURCE = "grails-versions.properties";
+
+    /**
+     * The dependency coordinates file name used when loading a catalog from a directory.
+     */
+    public static final String COORDINATES_FILE = "dependency-coordinates.txt";
+
+    private static final AtomicReference<VersionCatalog> CURRENT = new AtomicReference<>();
+    private static final ThreadLocal<VersionCatalog> PINNED = new ThreadLocal<>();
+
+    private final long revision;
+    private final Map<String, String> versions;
+    private final Map<String, Coordinate> coordinates;
+
+    private VersionCatalog(Map<String, String> versions, Map<String, Coordinate> coordinates) {
+        this.versions = Collections.unmodifiableMap(new TreeMap<>(versions));
+        this.coordinates = Collections.unmodifiableMap(new HashMap<>(coordinates));
+        this.revision = digest(this.versions, new TreeMap<>(coordinates));
+    }
+
+    /**
+     * @param versions    The versions by key, e.g. {@code grails.version}
+     * @param coordinates The coordinates by artifact id
+     * @return A new catalog
+     */
+    @NonNull
+    public static VersionCatalog of(@NonNull Map<String, String> versions, @NonNull Map<String, Coordinate> coordinates) {
+        return new VersionCatalog(versions, coordinates);
+    }
+
+    /**
+     * @return The catalog pinned to the current thread, otherwise the current catalog
+     */
+    @NonNull
+    public static VersionCatalog current() {
+        VersionCatalog pinned = PINNED.get();
+        if (pinned != null) {
+            return pinned;
+        }
+        VersionCatalog catalog = CURRENT.get();
+        if (catalog == null) {
+            initialize(new ResourceResolver());
+            catalog = CURRENT.get();
+        }
+        return catalog;
+    }
+
+    /**
+     * Loads the catalog from the classpath unless one has already been loaded or set.
+     *
+     * @param resourceResolver The resource resolver
+     */
+    public static void initialize(@NonNull ResourceResolver resourceResolver) {
+        if (CURRENT.get() == null) {
+            CURRENT.compareAndSet(null, load(resourceResolver));
+        }
+    }
+
+    /**
+     * Replaces the current catalog. Generations that already started keep their pinned catalog.
+     *
+     * @param catalog The new catalog
+     */
+    public static void update(@NonNull VersionCatalog catalog) {
+        CURRENT.set(catalog);
+    }
+
+    /**
+     * Pins a catalog to the current thread until the returned pin is closed.
+     *
+     * @param catalog The catalog
+     * @return The pin
+     */
+    @NonNull
+    public static Pin pin(@NonNull VersionCatalog catalog) {
+        Pin pin = new Pin(PINNED.get());
+        PINNED.set(catalog);
+        return pin;
+    }
+
+    /**
+     * @param resourceResolver The resource resolver
+     * @return The catalog built from the resources on the classpath
+     */
+    @NonNull
+    public static VersionCatalog load(@NonNull ResourceResolver resourceResolver) {
+        Map<String, String> versions = resourceResolver.getResourceAsStream("classpath:" + VERSIONS_RESOURCE)
+                .flatMap(VersionCatalog::readVersions)
+                .orElse(Collections.emptyMap());
+        return new VersionCatalog(versions, PomDependencyVersionResolver.loadCoordinates(resourceResolver));
+    }
+
+    /**
+     * Loads a catalog from a directory containing {@value #VERSIONS_RESOURCE} and/or {@value #COORDINATES_FILE}.
+     * Anything missing from the directory is taken from the given base catalog.
+     *
+     * @param directory The directory
+     * @param base      The catalog to take missing entries from
+     * @return The catalog
+     * @throws IOException If a file cannot be read
+     */
+    @NonNull
+    public static VersionCatalog load(@NonNull Path directory, @NonNull VersionCatalog base) throws IOException {
+        Map<String, String> versions = base.versions;
+        Path versionsFile = directory.resolve(VERSIONS_RESOURCE);
+        if (Files.isRegularFile(versionsFile)) {
+            try (Reader reader = Files.newBufferedReader(versionsFile, StandardCharsets.UTF_8)) {
+                versions = readVersions(reader);
+            }
+        }
+        Map<String, Coordinate> coordinates = base.coordinates;
+        Path coordinatesFile = directory.resolve(COORDINATES_FILE);
+        if (Files.isRegularFile(coordinatesFile)) {
+            try (Reader reader = Files.newBufferedReader(coordinatesFile, StandardCharsets.UTF_8)) {
+                coordinates = PomDependencyVersionResolver.readTable(reader);
+            }
+        }
+        return new VersionCatalog(versions, coordinates);
+    }
+
+    /**
+     * @return The revision of this catalog, derived from its versions and coordinates
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return The versions sorted by key
+     */
+    @NonNull
+    public Map<String, String> getVersions() {
+        return versions;
+    }
+
+    /**
+     * @return The coordinates by artifact id
+     */
+    @NonNull
+    public Map<String, Coordinate> getCoordinates() {
+        return coordinates;
+    }
+
+    private static long digest(Map<String, String> versions, Map<String, Coordinate> coordinates) {
+        StringBuilder contents = new StringBuilder();
+        versions.forEach((key, value) -> contents.append(key).append('=').append(value).append('\n'));
+        coordinates.forEach((key, coordinate) -> contents.append(key).append('=')
+                .append(coordinate.getGroupId()).append(':')
+                .append(coordinate.getArtifactId()).append(':')
+                .append(coordinate.getVersion()).append(':')
+                .append(coordinate.isPom() ? "pom" : "jar").append('\n'));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(contents.toString().getBytes(StandardCharsets.UTF_8));
+            long revision = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                revision = (revision << 8) | (digest[i] & 0xFF);
+            }
+            return revision & Long.MAX_VALUE;
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM provides SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Optional<Map<String, String>> readVersions(InputStream inputStream) {
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return Optional.of(readVersions(reader));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Map<String, String> readVersions(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        Map<String, String> versions = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            versions.put(key, properties.getProperty(key));
+        }
+        return versions;
+    }
+
+    /**
+     * Restores the previously pinned catalog when closed.
+     */
+    public static final class Pin implements AutoCloseable {
+
+        private final VersionCatalog previous;
+
+        private Pin(VersionCatalog previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+}
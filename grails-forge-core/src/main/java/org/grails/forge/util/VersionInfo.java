@@ -18,32 +18,13 @@ package org.grails.forge.util;
 import io.micronaut.core.annotation.NonNull;
 import org.grails.forge.options.JdkVersion;
 
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Properties;
 
+/**
+ * Exposes the versions of the current {@link VersionCatalog}.
+ */
 public class VersionInfo {
 
-    private static final Properties VERSIONS = new Properties();
-
-    static {
-        URL resource = VersionInfo.class.getResource("/grails-versions.properties");
-        if (resource != null) {
-            try (Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
-                VERSIONS.load(reader);
-            } catch (IOException e) {
-                // ignore
-            }
-        }
-    }
-
     /**
      * @return The Grails version
      */
@@ -73,9 +54,9 @@ public class VersionInfo {
     }
 
     public static String getGrailsVersion() {
-        Object grailsVersion = VERSIONS.get("grails.version");
+        String grailsVersion = VersionCatalog.current().getVersions().get("grails.version");
         if (grailsVersion != null) {
-            return grailsVersion.toString();
+            return grailsVersion;
         }
         return "6.0.0-M4";
     }
@@ -86,10 +67,7 @@ public class VersionInfo {
      * @return The versions
      */
     public static Map<String, String> getDependencyVersions() {
-        Map<String, String> map = new LinkedHashMap<>();
-        VERSIONS.entrySet().stream().sorted(Comparator.comparing(o -> o.getKey().toString()))
-                .forEach((entry) -> map.put(entry.getKey().toString(), entry.getValue().toString()));
-        return Collections.unmodifiableMap(map);
+        return VersionCatalog.current().getVersions();
     }
 
     /**
@@ -99,9 +77,9 @@ public class VersionInfo {
      */
     public static @NonNull String getBomVersion(String id) {
         String key = id + ".version";
-        Object version = VERSIONS.get(key);
+        String version = VersionCatalog.current().getVersions().get(key);
         if (version != null) {
-            return version.toString();
+            return version;
         }
         throw new IllegalArgumentException("Could not get version for ID " + id);
     }
@@ -113,7 +91,7 @@ public class VersionInfo {
      */
     public static @NonNull Map.Entry<String, String> getDependencyVersion(String id) {
         String key = id + ".version";
-        Object version = VERSIONS.get(key);
+        String version = VersionCatalog.current().getVersions().get(key);
         if (version != null) {
             return new Map.Entry<String, String>() {
                 @Override
@@ -123,7 +101,7 @@ public class VersionInfo {
 
                 @Override
                 public String getValue() {
-                    return version.toString();
+                    return version;
                 }
 
                 @Override
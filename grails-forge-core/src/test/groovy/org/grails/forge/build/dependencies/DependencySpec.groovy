@@ -0,0 +1,28 @@
+package org.grails.forge.build.dependencies
+
+import spock.lang.Specification
+
+class DependencySpec extends Specification {
+
+    void "equal resolutions share a single instance"() {
+        given:
+        Coordinate coordinate = Dependency.builder()
+                .groupId("org.grails.plugins")
+                .artifactId("quartz")
+                .version("3.0.0")
+                .buildCoordinate()
+
+        when:
+        Dependency first = Dependency.builder().lookupArtifactId("quartz").implementation().build().resolved(coordinate)
+        Dependency second = Dependency.builder().lookupArtifactId("quartz").implementation().build().resolved(coordinate)
+        Dependency runtime = Dependency.builder().lookupArtifactId("quartz").runtimeOnly().build().resolved(coordinate)
+
+        then:
+        first.is(second)
+        !first.is(runtime)
+        first.groupId == "org.grails.plugins"
+        first.version == "3.0.0"
+        !first.requiresLookup()
+        runtime.scope == Scope.RUNTIME_ONLY
+    }
+}
@@ -1,6 +1,7 @@
     package org.grails.forge.build.dependencies
 
 import io.micronaut.context.ApplicationContext
+import io.micronaut.core.io.ResourceResolver
 import spock.lang.AutoCleanup
 import spock.lang.Shared
 import spock.lang.Specification
@@ -20,4 +21,31 @@ class PomDependencyVersionResolverSpec extends Specification {
         expect:
         pomDependencyVersionResolver.coordinates
     }
+
+    void "the generated coordinates table matches the pom"() {
+        expect:
+        render(pomDependencyVersionResolver.coordinates) == render(PomDependencyVersionResolver.parsePoms(new ResourceResolver()))
+    }
+
+    void "coordinates are read from the table without parsing xml"() {
+        when:
+        Map<String, Coordinate> coordinates = PomDependencyVersionResolver.readTable(new StringReader(
+                "org.grails.plugins:quartz:3.0.0:jar\n" +
+                "org.testcontainers:testcontainers-bom::pom\n" +
+                "malformed\n"))
+
+        then:
+        coordinates.size() == 2
+        coordinates.quartz.groupId == "org.grails.plugins"
+        coordinates.quartz.version == "3.0.0"
+        !coordinates.quartz.pom
+        coordinates["testcontainers-bom"].version == null
+        coordinates["testcontainers-bom"].pom
+    }
+
+    private static Map<String, String> render(Map<String, Coordinate> coordinates) {
+        coordinates.collectEntries { artifactId, coordinate ->
+            [(artifactId): "${coordinate.groupId}:${coordinate.artifactId}:${coordinate.version}:${coordinate.pom}".toString()]
+        } as Map<String, String>
+    }
 }
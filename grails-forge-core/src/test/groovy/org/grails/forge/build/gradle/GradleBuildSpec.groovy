@@ -0,0 +1,42 @@
+package org.grails.forge.build.gradle
+
+import org.grails.forge.application.generator.GeneratorContext
+import org.grails.forge.build.dependencies.Dependency
+import org.grails.forge.options.TestFramework
+import org.grails.forge.template.Writable
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class GradleBuildSpec extends Specification {
+
+    void "dependencies and plugins are partitioned when the build is created"() {
+        given:
+        GeneratorContext ctx = Stub(GeneratorContext) {
+            getTestFramework() >> TestFramework.SPOCK
+        }
+        GradleDependency classpath = new GradleDependency(Dependency.builder().groupId("org.grails").artifactId("grails-gradle-plugin").classpath().build(), ctx)
+        GradleDependency buildSrc = new GradleDependency(Dependency.builder().groupId("org.grails").artifactId("grails-gradle-plugin").buildSrc().build(), ctx)
+        GradlePlugin applied = GradlePlugin.builder().id("org.grails.grails-web").useApplyPlugin(true).buildImports("import a.B").extension(writable("applied")).build()
+        GradlePlugin versioned = GradlePlugin.builder().id("com.example.plugin").version("1.0").settingsExtension(writable("settings")).build()
+
+        when:
+        GradleBuild build = new GradleBuild(GradleDsl.GROOVY, [], [classpath, buildSrc], [applied, versioned])
+
+        then:
+        build.buildscriptDependencies == [classpath]
+        build.buildSrcDependencies == [buildSrc]
+        build.allBuildscriptDependencies == [classpath, buildSrc]
+        build.pluginsWithApply == [applied]
+        build.pluginsWithoutApply == [versioned]
+        build.pluginsWithVersion == [versioned]
+        build.pluginsImports == ["import a.B" + System.lineSeparator()] as Set
+        build.renderExtensions() == "applied" + System.lineSeparator()
+        build.renderSettingsExtensions() == "settings" + System.lineSeparator()
+        build.renderExtensions().is(build.renderExtensions())
+    }
+
+    private static Writable writable(String content) {
+        return { OutputStream out -> out.write(content.getBytes(StandardCharsets.UTF_8)) } as Writable
+    }
+}
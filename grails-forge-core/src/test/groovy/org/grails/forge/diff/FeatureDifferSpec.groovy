@@ -0,0 +1,125 @@
+package org.grails.forge.diff
+
+import org.grails.forge.BeanContextSpec
+import org.grails.forge.application.ApplicationType
+import org.grails.forge.application.OperatingSystem
+import org.grails.forge.application.Project
+import org.grails.forge.application.generator.GeneratorContext
+import org.grails.forge.application.generator.ProjectGenerator
+import org.grails.forge.io.ConsoleOutput
+import org.grails.forge.io.OutputHandler
+import org.grails.forge.options.JdkVersion
+import org.grails.forge.options.Options
+import org.grails.forge.options.TestFramework
+import org.grails.forge.util.NameUtils
+
+class FeatureDifferSpec extends BeanContextSpec {
+
+    void "diffs and the baseline they are computed against are generated once"() {
+        given:
+        CountingProjectGenerator projectGenerator = new CountingProjectGenerator(delegate: beanContext.getBean(ProjectGenerator))
+        FeatureDiffer featureDiffer = new FeatureDiffer()
+
+        when:
+        String first = diff(featureDiffer, projectGenerator, 'gorm-mongodb')
+
+        then:
+        projectGenerator.baselines == 1
+        projectGenerator.projects == 1
+        first.contains('+## Feature gorm-mongodb documentation')
+
+        when:
+        String second = diff(featureDiffer, projectGenerator, 'gorm-mongodb')
+
+        then:
+        projectGenerator.baselines == 1
+        projectGenerator.projects == 1
+        second == first
+
+        when:
+        String other = diff(featureDiffer, projectGenerator, 'gorm-neo4j')
+
+        then: 'the baseline is shared with other features'
+        projectGenerator.baselines == 1
+        projectGenerator.projects == 2
+        other != first
+    }
+
+    void "only files with different contents are diffed"() {
+        given:
+        ProjectGenerator projectGenerator = beanContext.getBean(ProjectGenerator)
+        def generatorContext = projectGenerator.createGeneratorContext(
+                ApplicationType.WEB,
+                NameUtils.parse("example"),
+                new Options(TestFramework.DEFAULT_OPTION, JdkVersion.DEFAULT_OPTION),
+                null,
+                ['gorm-mongodb'],
+                ConsoleOutput.NOOP)
+
+        when:
+        List<FileDiff> files = new FeatureDiffer().diffFiles(projectGenerator, generatorContext)
+
+        then:
+        files.find { it.path == 'build.gradle' }
+        !files.find { it.path == 'gradlew' }
+        files.every { !it.deltas.isEmpty() }
+        files*.path.unique() == files*.path
+    }
+
+    private static String diff(FeatureDiffer featureDiffer, ProjectGenerator projectGenerator, String feature) {
+        StringBuilder output = new StringBuilder()
+        def generatorContext = projectGenerator.createGeneratorContext(
+                ApplicationType.WEB,
+                NameUtils.parse("example"),
+                new Options(TestFramework.DEFAULT_OPTION, JdkVersion.DEFAULT_OPTION),
+                null,
+                [feature],
+                ConsoleOutput.NOOP)
+        featureDiffer.produceDiff(projectGenerator, generatorContext, new ConsoleOutput() {
+            @Override
+            void out(String message) {
+                output.append(message).append('\n')
+            }
+
+            @Override
+            void err(String message) {
+            }
+
+            @Override
+            void warning(String message) {
+            }
+
+            @Override
+            boolean showStacktrace() {
+                return false
+            }
+
+            @Override
+            boolean verbose() {
+                return false
+            }
+        })
+        return output.toString()
+    }
+
+    static class CountingProjectGenerator implements ProjectGenerator {
+
+        @Delegate
+        ProjectGenerator delegate
+        int baselines
+        int projects
+
+        @Override
+        void generate(ApplicationType applicationType, Project project, Options options, OperatingSystem operatingSystem,
+                      List<String> selectedFeatures, OutputHandler outputHandler, ConsoleOutput consoleOutput) throws Exception {
+            baselines++
+            delegate.generate(applicationType, project, options, operatingSystem, selectedFeatures, outputHandler, consoleOutput)
+        }
+
+        @Override
+        void generate(ApplicationType applicationType, Project project, OutputHandler outputHandler, GeneratorContext generatorContext) throws Exception {
+            projects++
+            delegate.generate(applicationType, project, outputHandler, generatorContext)
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.grails.forge.feature
+
+import org.grails.forge.BeanContextSpec
+import org.grails.forge.application.ApplicationType
+import spock.lang.Unroll
+
+class BaseAvailableFeaturesSpec extends BeanContextSpec {
+
+    @Unroll
+    void "test features resolved from the bean context match the feature beans for #applicationType"() {
+        given:
+        AvailableFeatures lazy = new BaseAvailableFeatures(beanContext, applicationType)
+        AvailableFeatures eager = new BaseAvailableFeatures(beanContext.getBeansOfType(Feature).toList(), applicationType)
+
+        expect:
+        lazy.toList().sort() == eager.toList().sort()
+        lazy.getAllFeatures()*.name.sort() == eager.getAllFeatures()*.name.sort()
+        lazy.getAllFeatures(DefaultFeature)*.name.sort() == eager.getAllFeatures(DefaultFeature)*.name.sort()
+        eager.getAllFeatures().every { Feature feature ->
+            lazy.findFeature(feature.name, true).get().is(feature) &&
+                    lazy.toFeatures(lazy.toFeatureSet([feature])) == [feature]
+        }
+        lazy.toFeatures(lazy.getFeatureSet(OneOfFeature))*.name.sort() == eager.toFeatures(eager.getFeatureSet(OneOfFeature))*.name.sort()
+        lazy.toFeatures(lazy.getFeatureSet({ FeatureMetadata metadata -> metadata.defaultFeature }))*.name.sort() ==
+                eager.toFeatures(eager.getFeatureSet(DefaultFeature))*.name.sort()
+
+        where:
+        applicationType << ApplicationType.values()
+    }
+}
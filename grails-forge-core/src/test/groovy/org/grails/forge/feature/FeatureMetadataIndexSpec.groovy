@@ -0,0 +1,47 @@
+package org.grails.forge.feature
+
+import org.grails.forge.BeanContextSpec
+import org.grails.forge.application.ApplicationType
+
+import java.nio.charset.StandardCharsets
+
+class FeatureMetadataIndexSpec extends BeanContextSpec {
+
+    void "test the index describes every feature"() {
+        given:
+        Collection<Feature> features = beanContext.getBeansOfType(Feature)
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        FeatureMetadataIndex.write(features, out)
+        FeatureMetadataIndex index = FeatureMetadataIndex.read(new StringReader(out.toString(StandardCharsets.UTF_8.name())))
+
+        then:
+        index.features*.name == features*.name.sort()
+        features.every { Feature feature ->
+            FeatureMetadata metadata = index.findFeatureByType(feature.class.name).get()
+            metadata.title == feature.title &&
+                    metadata.description == feature.description &&
+                    metadata.category == feature.category &&
+                    metadata.visible == feature.visible &&
+                    metadata.preview == feature.preview &&
+                    metadata.community == feature.community &&
+                    metadata.defaultFeature == (feature instanceof DefaultFeature) &&
+                    ApplicationType.values().every { metadata.supports(it) == feature.supports(it) }
+        }
+    }
+
+    void "test the index is reproducible"() {
+        given:
+        Collection<Feature> features = beanContext.getBeansOfType(Feature)
+        ByteArrayOutputStream first = new ByteArrayOutputStream()
+        ByteArrayOutputStream second = new ByteArrayOutputStream()
+
+        when:
+        FeatureMetadataIndex.write(features, first)
+        FeatureMetadataIndex.write(features.toList().reverse(), second)
+
+        then:
+        first.toByteArray() == second.toByteArray()
+    }
+}
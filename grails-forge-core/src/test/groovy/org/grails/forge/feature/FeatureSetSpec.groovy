@@ -0,0 +1,53 @@
+package org.grails.forge.feature
+
+import org.grails.forge.BeanContextSpec
+import org.grails.forge.application.WebAvailableFeatures
+
+class FeatureSetSpec extends BeanContextSpec {
+
+    void "test set operations"() {
+        given:
+        FeatureSet a = FeatureSet.of(1, 64, 130)
+        FeatureSet b = FeatureSet.of(1, 2)
+
+        expect:
+        a.contains(64)
+        !a.contains(65)
+        !a.contains(-1)
+        a.size() == 3
+        a.union(b) == FeatureSet.of(1, 2, 64, 130)
+        a.intersection(b) == FeatureSet.of(1)
+        a.difference(b) == FeatureSet.of(64, 130)
+        a.intersects(b)
+        !a.difference(b).intersects(b)
+        a.union(b).containsAll(a)
+        !b.containsAll(a)
+        a.with(2) == a.union(b)
+        a.toString() == "[1,64,130]"
+    }
+
+    void "test canonical equality and hash"() {
+        given:
+        FeatureSet wide = FeatureSet.of(1, 300).difference(FeatureSet.of(300))
+
+        expect:
+        wide == FeatureSet.of(1)
+        wide.hashCode() == FeatureSet.of(1).hashCode()
+        FeatureSet.of() == FeatureSet.EMPTY
+        FeatureSet.EMPTY.isEmpty()
+    }
+
+    void "test available features assign dense ids"() {
+        given:
+        AvailableFeatures availableFeatures = beanContext.getBean(WebAvailableFeatures)
+        List<Feature> features = availableFeatures.getFeatures().limit(3).collect()
+
+        when:
+        FeatureSet featureSet = availableFeatures.toFeatureSet(features)
+
+        then:
+        featureSet.size() == 3
+        availableFeatures.toFeatures(featureSet) as Set == features as Set
+        features.every { availableFeatures.getFeatureId(it) >= 0 }
+    }
+}
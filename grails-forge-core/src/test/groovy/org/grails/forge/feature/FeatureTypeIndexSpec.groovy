@@ -0,0 +1,114 @@
+package org.grails.forge.feature
+
+import org.grails.forge.application.ApplicationType
+import org.grails.forge.options.Options
+import org.grails.forge.options.TestFramework
+import spock.lang.Specification
+
+class FeatureTypeIndexSpec extends Specification {
+
+    void "test features are indexed by their classes and interfaces"() {
+        given:
+        Child child = new Child(name: "child")
+        Other other = new Other(name: "other")
+        FeatureTypeIndex index = new FeatureTypeIndex([child, other])
+
+        expect:
+        index.contains(Child)
+        index.contains(Base)
+        index.contains(Marker)
+        index.contains(Feature)
+        !index.contains(String)
+        index.first(Base).get().is(child)
+        index.first(Marker).get().is(child)
+        index.first(Other).get().is(other)
+        !index.first(String).present
+    }
+
+    void "test removing features drops them from every type"() {
+        given:
+        Child child = new Child(name: "child")
+        Other other = new Other(name: "other")
+        FeatureTypeIndex index = new FeatureTypeIndex([child, other])
+
+        when:
+        index.removeIf { it.is(child) }
+
+        then:
+        !index.contains(Child)
+        !index.contains(Base)
+        index.first(Marker).get().is(other)
+    }
+
+    void "test Features returns the first matching feature in feature order"() {
+        given:
+        Child child = new Child(name: "child")
+        Other other = new Other(name: "other")
+        Features features = new Features(null, [other, child] as LinkedHashSet, new Options(TestFramework.DEFAULT_OPTION))
+
+        expect:
+        features.isFeaturePresent(Base)
+        features.isFeaturePresent(Marker)
+        !features.isFeaturePresent(Unused)
+        features.getFeature(Marker).get().is(other)
+        features.getRequiredFeature(Base).is(child)
+        !features.getFeature(Unused).present
+    }
+
+    void "test excluded features are no longer present in the feature context"() {
+        given:
+        Child child = new Child(name: "child")
+        Other other = new Other(name: "other")
+        FeatureContext featureContext = new FeatureContext(new Options(TestFramework.DEFAULT_OPTION),
+                ApplicationType.WEB, null, [child, other] as LinkedHashSet)
+
+        when:
+        featureContext.processSelectedFeatures()
+
+        then:
+        featureContext.isPresent(Base)
+        featureContext.isPresent(Marker)
+        !featureContext.isPresent(Unused)
+
+        when:
+        featureContext.exclude({ Feature feature -> feature instanceof Child } as FeaturePredicate)
+
+        then:
+        !featureContext.isPresent(Child)
+        !featureContext.isPresent(Base)
+        featureContext.isPresent(Marker)
+
+        when:
+        featureContext.addFeature(new Child(name: "added"))
+
+        then:
+        !featureContext.isPresent(Base)
+    }
+
+    static interface Marker extends Feature {
+    }
+
+    static interface Unused extends Feature {
+    }
+
+    static class Base implements Feature {
+        String name
+
+        @Override
+        boolean supports(ApplicationType applicationType) {
+            true
+        }
+    }
+
+    static class Child extends Base implements Marker {
+    }
+
+    static class Other implements Marker {
+        String name
+
+        @Override
+        boolean supports(ApplicationType applicationType) {
+            true
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.grails.forge.feature.config
+
+import spock.lang.Specification
+
+class ConfigurationSpec extends Specification {
+
+    void "dotted paths resolve against flat and nested entries"() {
+        given:
+        Configuration config = new ApplicationConfiguration()
+        config.put("grails.views.default.codec", "html")
+        config.addNested("dataSource.pooled", true)
+        config.addNested("dataSource.properties.maxActive", null)
+
+        expect:
+        config.get("grails.views.default.codec") == "html"
+        config.get("dataSource.pooled") == true
+        config.get("dataSource") == [pooled: true, properties: [maxActive: null]]
+        config.containsKey("dataSource.properties.maxActive")
+        config.get("dataSource.properties.maxActive") == null
+        !config.containsKey("dataSource.pooled.value")
+        !config.containsKey("dataSource.missing")
+        !config.containsKey("missing")
+        config.get("dataSource.missing") == null
+    }
+
+    void "addNested merges into existing nested maps"() {
+        given:
+        Configuration config = new BootstrapConfiguration()
+
+        when:
+        config.addNested([
+                "spring.main.banner-mode": "off",
+                "spring.groovy.template.check-template-location": false
+        ])
+
+        then:
+        config.keySet() == ["spring"] as Set
+        config.get("spring.main.banner-mode") == "off"
+        config.get("spring.groovy.template.check-template-location") == false
+    }
+}
@@ -0,0 +1,62 @@
+package org.grails.forge.feature.validation
+
+import io.micronaut.inject.qualifiers.Qualifiers
+import org.grails.forge.BeanContextSpec
+import org.grails.forge.application.ApplicationType
+import org.grails.forge.feature.AvailableFeatures
+import org.grails.forge.feature.Feature
+import org.grails.forge.feature.FeatureSet
+import org.grails.forge.options.Options
+import org.grails.forge.options.TestFramework
+import spock.lang.Unroll
+
+class FeatureValidatorSpec extends BeanContextSpec {
+
+    @Unroll
+    void "test compiled rules report the same errors as the feature set rules for #selected"() {
+        given:
+        AvailableFeatures availableFeatures = beanContext.getBean(AvailableFeatures, Qualifiers.byName(ApplicationType.WEB.name))
+        FeatureValidator validator = beanContext.getBean(FeatureValidator)
+        Options options = new Options(TestFramework.DEFAULT_OPTION)
+        Set<Feature> features = selected.collect { availableFeatures.findFeature(it, true).get() } as Set
+        FeatureSet featureSet = availableFeatures.toFeatureSet(features)
+
+        when:
+        validator.validatePreProcessing(options, ApplicationType.WEB, features)
+
+        then:
+        def expected = thrown(IllegalArgumentException)
+
+        when:
+        validator.validatePreProcessing(options, ApplicationType.WEB, features, featureSet, availableFeatures)
+
+        then:
+        def actual = thrown(IllegalArgumentException)
+        actual.message == message
+        expected.message == message
+        !validator.isValid(options, ApplicationType.WEB, featureSet, availableFeatures)
+
+        where:
+        selected                      | message
+        ["h2", "mysql"]               | "There can only be one of the following features selected: [h2, mysql]"
+        ["mysql", "h2"]               | "There can only be one of the following features selected: [mysql, h2]"
+        ["assertj", "spock"]          | "AssertJ requires JUnit."
+        ["mockito", "h2"]             | "Mockito requires JUnit or Spock."
+    }
+
+    void "test compiled rules accept a valid selection"() {
+        given:
+        AvailableFeatures availableFeatures = beanContext.getBean(AvailableFeatures, Qualifiers.byName(ApplicationType.WEB.name))
+        Set<Feature> features = ["h2", "mockito", "spock"].collect { availableFeatures.findFeature(it, true).get() } as Set
+        FeatureValidator validator = beanContext.getBean(FeatureValidator)
+        Options options = new Options(TestFramework.DEFAULT_OPTION)
+
+        when:
+        validator.validatePostProcessing(options, ApplicationType.WEB,
+                features, availableFeatures.toFeatureSet(features), availableFeatures)
+
+        then:
+        noExceptionThrown()
+        validator.isValid(options, ApplicationType.WEB, availableFeatures.toFeatureSet(features), availableFeatures)
+    }
+}
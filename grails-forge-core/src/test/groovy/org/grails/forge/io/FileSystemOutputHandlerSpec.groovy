@@ -0,0 +1,64 @@
+package org.grails.forge.io
+
+import org.grails.forge.template.BinaryTemplate
+import org.grails.forge.template.StringTemplate
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class FileSystemOutputHandlerSpec extends Specification {
+
+    File dir = Files.createTempDirectory('grailsforgetmp').toFile()
+
+    void cleanup() {
+        dir.deleteDir()
+    }
+
+    void "test incremental mode only writes changed files"() {
+        given:
+        File unchanged = new File(dir, "unchanged.txt")
+        unchanged.text = "same"
+        unchanged.setLastModified(1000L)
+        File changed = new File(dir, "changed.txt")
+        changed.text = "old"
+
+        when:
+        FileSystemOutputHandler handler = new FileSystemOutputHandler(dir, true, ConsoleOutput.NOOP)
+        handler.write("unchanged.txt", new StringTemplate("unchanged.txt", "same"))
+        handler.write("changed.txt", new StringTemplate("changed.txt", "new"))
+        handler.write("sub/created.txt", new StringTemplate("sub/created.txt", "created"))
+
+        then:
+        unchanged.lastModified() == 1000L
+        changed.text == "new"
+        new File(dir, "sub/created.txt").text == "created"
+        handler.writtenCount == 2
+        handler.skippedCount == 1
+    }
+
+    void "test non incremental mode rewrites every file"() {
+        given:
+        File unchanged = new File(dir, "unchanged.txt")
+        unchanged.text = "same"
+
+        when:
+        FileSystemOutputHandler handler = new FileSystemOutputHandler(dir, ConsoleOutput.NOOP)
+        handler.write("unchanged.txt", new StringTemplate("unchanged.txt", "same"))
+
+        then:
+        handler.writtenCount == 1
+        handler.skippedCount == 0
+    }
+
+    void "test binary templates are transferred through the file channel"() {
+        given:
+        URL url = getClass().getResource("/logback.xml")
+
+        when:
+        FileSystemOutputHandler handler = new FileSystemOutputHandler(dir, ConsoleOutput.NOOP)
+        handler.write("logback.xml", new BinaryTemplate("logback.xml", url))
+
+        then:
+        new File(dir, "logback.xml").bytes == url.bytes
+    }
+}
@@ -0,0 +1,43 @@
+package org.grails.forge.io
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream
+import org.grails.forge.template.BinaryTemplate
+import org.grails.forge.template.StringTemplate
+import spock.lang.Specification
+
+import java.util.zip.ZipEntry
+
+class ZipOutputHandlerSpec extends Specification {
+
+    void "test already compressed entries are stored and text entries are deflated"() {
+        given:
+        URL jar = getClass().getResource("/gradle/wrapper/gradle-wrapper.jar")
+        ByteArrayOutputStream baos = new ByteArrayOutputStream()
+
+        when:
+        ZipOutputHandler handler = new ZipOutputHandler("demo", baos, compression)
+        handler.write("gradle/wrapper/gradle-wrapper.jar", new BinaryTemplate("gradle/wrapper/gradle-wrapper.jar", jar))
+        handler.write("README.md", new StringTemplate("README.md", "# Demo\n" * 100))
+        handler.close()
+
+        Map<String, ZipArchiveEntry> entries = [:]
+        Map<String, byte[]> contents = [:]
+        new ZipArchiveInputStream(new ByteArrayInputStream(baos.toByteArray())).withCloseable { zis ->
+            ZipArchiveEntry entry
+            while ((entry = zis.nextZipEntry) != null) {
+                entries[entry.name] = entry
+                contents[entry.name] = zis.bytes
+            }
+        }
+
+        then:
+        entries["demo/gradle/wrapper/gradle-wrapper.jar"].method == ZipEntry.STORED
+        contents["demo/gradle/wrapper/gradle-wrapper.jar"] == jar.bytes
+        entries["demo/README.md"].method == ZipEntry.DEFLATED
+        new String(contents["demo/README.md"]) == "# Demo\n" * 100
+
+        where:
+        compression << ZipCompression.values()
+    }
+}
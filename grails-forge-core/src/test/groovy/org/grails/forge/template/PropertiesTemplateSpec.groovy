@@ -36,4 +36,40 @@ class PropertiesTemplateSpec extends Specification {
         output.contains("d[1].age=40")
         output.contains("d[1].petNames[0]=Rover")
     }
+
+    void "test properties output is compatible with java.util.Properties"() {
+        given:
+        Map<String, Object> config = [
+                "a.b": "value with spaces",
+                " leading": " space",
+                "special=key": "x:y#z!w",
+                "path": "C:\\dir\\file",
+                "unicode": "caf\u00e9",
+                "multi": "line1\nline2\ttab"
+        ]
+        PropertiesTemplate template = new PropertiesTemplate(null, config)
+        ByteArrayOutputStream baos = new ByteArrayOutputStream()
+        template.write(baos)
+
+        Properties expected = new Properties()
+        config.each { k, v -> expected.put(k, v) }
+        ByteArrayOutputStream stored = new ByteArrayOutputStream()
+        expected.store(stored, null)
+        Set<String> storedLines = stored.toString("ISO-8859-1").readLines().findAll { !it.startsWith("#") } as Set
+
+        Properties loaded = new Properties()
+        loaded.load(new ByteArrayInputStream(baos.toByteArray()))
+
+        expect:
+        baos.toString("ISO-8859-1").readLines() as Set == storedLines
+        loaded == expected
+        baos.toString("ISO-8859-1").readLines() == [
+                'a.b=value with spaces',
+                '\\ leading=\\ space',
+                'special\\=key=x\\:y\\#z\\!w',
+                'path=C\\:\\\\dir\\\\file',
+                'unicode=caf\\u00E9',
+                'multi=line1\\nline2\\ttab'
+        ]
+    }
 }
@@ -0,0 +1,31 @@
+package org.grails.forge.template
+
+import spock.lang.Specification
+
+class PureWritableSpec extends Specification {
+
+    void "test output is rendered once per template and inputs"() {
+        given:
+        int renders = 0
+        def render = { String input ->
+            PureWritable.of(PureWritableSpec, { ->
+                renders++
+                new StringTemplate("a", "value " + input)
+            }, input)
+        }
+
+        when:
+        ByteArrayOutputStream first = new ByteArrayOutputStream()
+        render("x").write(first)
+        ByteArrayOutputStream second = new ByteArrayOutputStream()
+        render("x").write(second)
+        ByteArrayOutputStream other = new ByteArrayOutputStream()
+        render("y").write(other)
+
+        then:
+        first.toString() == "value x"
+        second.toString() == "value x"
+        other.toString() == "value y"
+        renders == 2
+    }
+}
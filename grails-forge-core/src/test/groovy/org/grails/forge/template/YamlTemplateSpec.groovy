@@ -1,6 +1,9 @@
 package org.grails.forge.template
 
+import org.yaml.snakeyaml.DumperOptions
+import org.yaml.snakeyaml.Yaml
 import spock.lang.Specification
+import spock.lang.Unroll
 
 class YamlTemplateSpec extends Specification {
 
@@ -44,4 +47,34 @@ jpa.default.properties.hibernate.hbm2ddl: auto
         expect:
         baos.toString() == "# Place application configuration here"
     }
+
+    @Unroll
+    void "test streamed yaml output matches snakeyaml for #description"() {
+        given:
+        YamlTemplate template = new YamlTemplate("abc", config)
+        ByteArrayOutputStream baos = new ByteArrayOutputStream()
+        template.write(baos)
+
+        DumperOptions options = new DumperOptions()
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK)
+        options.setPrettyFlow(true)
+        StringWriter expected = new StringWriter()
+        new Yaml(options).dump(template.@config, expected)
+
+        expect:
+        baos.toString("UTF-8") == expected.toString()
+
+        where:
+        description            | config
+        "nested maps"          | ["grails.profile": "web", "grails.codegen.defaultPackage": "example", "grails.codegen.other": "x"]
+        "scalar types"         | ["server.port": 8080, "server.ssl": false, "server.timeout": 10L, "server.name": null]
+        "lists"                | ["grails.mime.types.json": ["application/json", "text/json"], "grails.mime.types.all": "*/*"]
+        "implicit types"       | ["a.b": "true", "a.c": "123", "a.d": "null", "a.e": "~", "a.f": "1.5", "a.g": "2020-01-01"]
+        "indicators"           | ["a.b": "*.x", "a.c": "-", "a.d": "---", "a.e": "it's", "a.f": "@foo", "a.g": "end:", "a.h": "{x}"]
+        "urls"                 | ["dataSource.url": "jdbc:h2:mem:devDb;LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE", "dataSource.driverClassName": "org.h2.Driver"]
+        "micronaut keys"       | ["micronaut.application.name": "demo"]
+        "values with spaces"   | ["a.b": "a value with spaces", "a.c": ""]
+        "lists of maps"        | ["a.b": [[name: "Sally", age: 30]]]
+        "unicode"              | ["a.b": "caf\u00e9"]
+    }
 }
@@ -0,0 +1,39 @@
+package org.grails.forge.util
+
+import spock.lang.Specification
+
+class LruCacheSpec extends Specification {
+
+    void "test the least recently used entry is evicted when full"() {
+        given:
+        LruCache<String, Integer> cache = new LruCache<>(2)
+
+        when:
+        cache.putIfAbsent("a", 1)
+        cache.putIfAbsent("b", 2)
+        cache.get("a")
+        cache.putIfAbsent("c", 3)
+
+        then:
+        cache.size() == 2
+        cache.get("a") == 1
+        cache.get("b") == null
+        cache.get("c") == 3
+    }
+
+    void "test computeIfAbsent only computes missing values"() {
+        given:
+        LruCache<String, Integer> cache = new LruCache<>(2)
+        int computed = 0
+
+        when:
+        Integer first = cache.computeIfAbsent("a") { computed++; 1 }
+        Integer second = cache.computeIfAbsent("a") { computed++; 2 }
+
+        then:
+        first == 1
+        second == 1
+        computed == 1
+        cache.putIfAbsent("a", 3) == 1
+    }
+}
@@ -0,0 +1,87 @@
+package org.grails.forge.util
+
+import org.grails.forge.build.dependencies.Dependency
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class VersionCatalogSpec extends Specification {
+
+    VersionCatalog original = VersionCatalog.current()
+
+    void cleanup() {
+        VersionCatalog.update(original)
+    }
+
+    void "a reloaded catalog replaces the current one"() {
+        given:
+        Path directory = Files.createTempDirectory("version-catalog")
+        directory.resolve(VersionCatalog.VERSIONS_RESOURCE).text = "grails.version=99.0.0\n"
+        directory.resolve(VersionCatalog.COORDINATES_FILE).text = "org.grails.plugins:quartz:9.9.9:jar\n"
+
+        when:
+        VersionCatalog catalog = VersionCatalog.load(directory, original)
+        VersionCatalog.update(catalog)
+
+        then:
+        catalog.revision != original.revision
+        VersionInfo.grailsVersion == "99.0.0"
+        catalog.coordinates.quartz.version == "9.9.9"
+        catalog.coordinates.size() == 1
+
+        cleanup:
+        directory.toFile().deleteDir()
+    }
+
+    void "missing files are taken from the base catalog"() {
+        given:
+        Path directory = Files.createTempDirectory("version-catalog")
+        directory.resolve(VersionCatalog.VERSIONS_RESOURCE).text = "grails.version=99.0.0\n"
+
+        when:
+        VersionCatalog catalog = VersionCatalog.load(directory, original)
+
+        then:
+        catalog.versions == ["grails.version": "99.0.0"]
+        catalog.coordinates == original.coordinates
+
+        cleanup:
+        directory.toFile().deleteDir()
+    }
+
+    void "the revision is derived from the catalog contents"() {
+        given:
+        def quartz = Dependency.builder().groupId("org.grails.plugins").artifactId("quartz").version("3.0.0").buildCoordinate()
+
+        expect:
+        VersionCatalog.of(["grails.version": "1.0.0"], [quartz: quartz]).revision ==
+                VersionCatalog.of(["grails.version": "1.0.0"], [quartz: quartz]).revision
+        VersionCatalog.of(["grails.version": "1.0.0"], [quartz: quartz]).revision !=
+                VersionCatalog.of(["grails.version": "2.0.0"], [quartz: quartz]).revision
+        VersionCatalog.of(["grails.version": "1.0.0"], [quartz: quartz]).revision !=
+                VersionCatalog.of(["grails.version": "1.0.0"], [:]).revision
+    }
+
+    void "a pinned catalog is used until the pin is closed"() {
+        given:
+        VersionCatalog pinned = VersionCatalog.of(["grails.version": "1.0.0"], [:])
+        VersionCatalog next = VersionCatalog.of(["grails.version": "2.0.0"],
+                [quartz: Dependency.builder().groupId("org.grails.plugins").artifactId("quartz").version("3.0.0").buildCoordinate()])
+
+        when:
+        VersionCatalog.Pin pin = VersionCatalog.pin(pinned)
+        VersionCatalog.update(next)
+
+        then:
+        VersionCatalog.current().is(pinned)
+        VersionInfo.grailsVersion == "1.0.0"
+
+        when:
+        pin.close()
+
+        then:
+        VersionCatalog.current().is(next)
+        VersionInfo.grailsVersion == "2.0.0"
+    }
+}